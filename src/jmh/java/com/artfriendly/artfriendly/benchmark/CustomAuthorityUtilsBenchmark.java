@@ -0,0 +1,27 @@
+package com.artfriendly.artfriendly.benchmark;
+
+import com.artfriendly.artfriendly.global.utils.CustomAuthorityUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomAuthorityUtilsBenchmark {
+    private final CustomAuthorityUtils customAuthorityUtils = new CustomAuthorityUtils();
+    private final List<String> userRoles = List.of("USER");
+    private final List<String> adminRoles = List.of("ADMIN", "USER");
+
+    @Benchmark
+    public List<GrantedAuthority> createUserAuthorities() {
+        return customAuthorityUtils.createAuthorities(userRoles);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> createAdminAuthorities() {
+        return customAuthorityUtils.createAuthorities(adminRoles);
+    }
+}
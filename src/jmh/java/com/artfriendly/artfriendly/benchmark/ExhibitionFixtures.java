@@ -0,0 +1,84 @@
+package com.artfriendly.artfriendly.benchmark;
+
+import com.artfriendly.artfriendly.domain.exhibition.entity.*;
+import com.artfriendly.artfriendly.domain.member.entity.Member;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 전시 엔티티 그래프, 좋아요/희망 사항/조회 수는 인기 전시 수준으로 만든다.
+public final class ExhibitionFixtures {
+    private static final String[] AREAS = {"서울", "경기", "부산", "대구", "인천", "광주", "대전", "제주"};
+    private static final String[] REALMS = {"미술", "사진", "공예", "디자인", "미디어"};
+
+    private ExhibitionFixtures() {
+    }
+
+    public static List<Member> members(int size) {
+        List<Member> memberList = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            memberList.add(Member.builder()
+                    .id(id)
+                    .email("member" + id + "@artfriendly.com")
+                    .nickName("회원" + id)
+                    .role(List.of("USER"))
+                    .build());
+        }
+        return memberList;
+    }
+
+    public static Exhibition exhibition(long id, List<Member> memberList, int likeCount, int hopeCount, int viewCount, Random random) {
+        List<ExhibitionLike> exhibitionLikeList = new ArrayList<>(likeCount);
+        List<ExhibitionHope> exhibitionHopeList = new ArrayList<>(hopeCount);
+        List<ExhibitionView> exhibitionViewList = new ArrayList<>(viewCount);
+        ExhibitionHope.Hope[] hopes = ExhibitionHope.Hope.values();
+        LocalDate startDate = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+
+        ExhibitionInfo exhibitionInfo = ExhibitionInfo.builder()
+                .id(id)
+                .seq((int) id)
+                .title("전시 " + id + " : 빛과 그림자의 기록")
+                .startDate(startDate)
+                .endDate(startDate.plusDays(30 + random.nextInt(90)))
+                .place("아트프렌들리 갤러리 " + (id % 50))
+                .realmName(REALMS[random.nextInt(REALMS.length)])
+                .area(AREAS[random.nextInt(AREAS.length)])
+                .imageUrl("https://image.artfriendly.com/exhibition/" + id + ".jpg")
+                .placeAddr("서울특별시 종로구 " + id)
+                .progressStatus("inProgress")
+                .build();
+        Exhibition exhibition = Exhibition.builder()
+                .id(id)
+                .exhibitionLikeList(exhibitionLikeList)
+                .exhibitionHopeList(exhibitionHopeList)
+                .exhibitionViewList(exhibitionViewList)
+                .exhibitionInfo(exhibitionInfo)
+                .build();
+
+        for (int i = 0; i < likeCount; i++) {
+            exhibitionLikeList.add(ExhibitionLike.builder()
+                    .id((long) i)
+                    .member(memberList.get(i % memberList.size()))
+                    .exhibition(exhibition)
+                    .build());
+        }
+        for (int i = 0; i < hopeCount; i++) {
+            exhibitionHopeList.add(ExhibitionHope.builder()
+                    .id((long) i)
+                    .member(memberList.get(i % memberList.size()))
+                    .exhibition(exhibition)
+                    .hope(hopes[random.nextInt(hopes.length)])
+                    .build());
+        }
+        for (int i = 0; i < viewCount; i++) {
+            exhibitionViewList.add(ExhibitionView.builder()
+                    .id((long) i)
+                    .member(memberList.get(i % memberList.size()))
+                    .exhibition(exhibition)
+                    .build());
+        }
+        return exhibition;
+    }
+}
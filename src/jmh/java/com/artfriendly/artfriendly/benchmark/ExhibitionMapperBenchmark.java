@@ -0,0 +1,61 @@
+package com.artfriendly.artfriendly.benchmark;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionDetailsRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.entity.Exhibition;
+import com.artfriendly.artfriendly.domain.exhibition.mapper.ExhibitionMapper;
+import com.artfriendly.artfriendly.domain.exhibition.mapper.ExhibitionMapperImpl;
+import com.artfriendly.artfriendly.domain.member.entity.Member;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 목록 페이지(8개) 변환, 좋아요 여부를 엔티티 목록에서 찾는 경우와 id 집합으로 찾는 경우를 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExhibitionMapperBenchmark {
+    private static final int PAGE_SIZE = 8;
+
+    @Param({"100", "2000"})
+    private int likeCount;
+
+    private final ExhibitionMapper exhibitionMapper = new ExhibitionMapperImpl();
+    private List<Exhibition> exhibitionList;
+    private Page<Exhibition> exhibitionPage;
+    private Set<Long> likedExhibitionIds;
+    private long memberId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Member> memberList = ExhibitionFixtures.members(likeCount);
+        exhibitionList = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            exhibitionList.add(ExhibitionFixtures.exhibition(id, memberList, likeCount, likeCount / 2, likeCount, random));
+        }
+        exhibitionPage = new PageImpl<>(exhibitionList, PageRequest.of(0, PAGE_SIZE), 1000);
+        // 목록 끝쪽에 좋아요가 있는 회원, 엔티티 목록 순회의 최악에 가깝다.
+        memberId = likeCount;
+        likedExhibitionIds = new HashSet<>(List.of(1L, 3L, 5L));
+    }
+
+    @Benchmark
+    public Page<ExhibitionRspDto> exhibitionPageToExhibitionRspDto() {
+        return exhibitionMapper.exhibitionPageToExhibitionRspDto(exhibitionPage, memberId);
+    }
+
+    @Benchmark
+    public List<ExhibitionRspDto> exhibitionsToExhibitionRspDtos() {
+        return exhibitionMapper.exhibitionsToExhibitionRspDtos(exhibitionList, likedExhibitionIds);
+    }
+
+    @Benchmark
+    public ExhibitionDetailsRspDto exhibitionToExhibitionDetailsRspDto() {
+        return exhibitionMapper.exhibitionToExhibitionDetailsRspDto(exhibitionList.get(0), "보고 싶어요", true, false, List.of());
+    }
+}
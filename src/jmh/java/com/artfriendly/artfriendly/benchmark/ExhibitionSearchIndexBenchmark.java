@@ -0,0 +1,71 @@
+package com.artfriendly.artfriendly.benchmark;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSuggestRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.search.ExhibitionSearchDocument;
+import com.artfriendly.artfriendly.domain.exhibition.search.ExhibitionSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 합성 전시 10만 건 역색인의 검색, 자동완성, 증분 갱신 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExhibitionSearchIndexBenchmark {
+    private static final String[] TITLE_WORDS = {"빛", "그림자", "기록", "정원", "바다", "도시", "풍경", "초상", "들꽃", "시간",
+            "기억", "여름", "겨울", "색채", "조각", "사진", "판화", "목소리", "산책", "밤"};
+    private static final String[] PLACES = {"아트프렌들리 갤러리", "국립현대미술관", "시립미술관", "아트센터", "문화공간"};
+    private static final String[] REALMS = {"미술", "사진", "공예", "디자인", "미디어"};
+    private static final String[] AREAS = {"서울특별시 종로구", "부산광역시 해운대구", "대구광역시 중구", "제주특별자치도 제주시"};
+
+    @Param({"100000"})
+    private int exhibitionCount;
+
+    private final ExhibitionSearchIndex exhibitionSearchIndex = new ExhibitionSearchIndex();
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        List<ExhibitionSearchDocument> documentList = new ArrayList<>(exhibitionCount);
+        for (long id = 1; id <= exhibitionCount; id++) {
+            documentList.add(document(id));
+        }
+        exhibitionSearchIndex.rebuild(documentList);
+    }
+
+    @Benchmark
+    public List<Long> searchOneSyllable() {
+        return exhibitionSearchIndex.search("꽃");
+    }
+
+    @Benchmark
+    public List<Long> searchTwoWords() {
+        return exhibitionSearchIndex.search("그림자 정원");
+    }
+
+    @Benchmark
+    public List<ExhibitionSuggestRspDto> autocompleteChoseong() {
+        return exhibitionSearchIndex.autocomplete("ㄱㄹ", 10);
+    }
+
+    @Benchmark
+    public void upsert() {
+        exhibitionSearchIndex.upsert(document(1 + random.nextInt(exhibitionCount)));
+    }
+
+    private ExhibitionSearchDocument document(long id) {
+        String title = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + "과 " + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]
+                + " " + id;
+        return new ExhibitionSearchDocument(
+                id,
+                title,
+                PLACES[random.nextInt(PLACES.length)] + " " + (id % 200),
+                REALMS[random.nextInt(REALMS.length)],
+                AREAS[random.nextInt(AREAS.length)] + " " + id,
+                (double) random.nextInt(1000));
+    }
+}
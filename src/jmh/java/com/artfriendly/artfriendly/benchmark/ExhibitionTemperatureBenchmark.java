@@ -0,0 +1,32 @@
+package com.artfriendly.artfriendly.benchmark;
+
+import com.artfriendly.artfriendly.domain.exhibition.entity.Exhibition;
+import com.artfriendly.artfriendly.domain.member.entity.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Exhibition.updateTemperature 는 좋아요/희망 사항/조회 목록 전체를 순회한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExhibitionTemperatureBenchmark {
+    @Param({"100", "1000", "5000"})
+    private int reactionCount;
+
+    private Exhibition exhibition;
+
+    @Setup
+    public void setUp() {
+        List<Member> memberList = ExhibitionFixtures.members(reactionCount);
+        exhibition = ExhibitionFixtures.exhibition(1L, memberList, reactionCount, reactionCount, reactionCount * 3, new Random(42));
+    }
+
+    @Benchmark
+    public Double updateTemperature() {
+        exhibition.updateTemperature();
+        return exhibition.getTemperature();
+    }
+}
@@ -0,0 +1,42 @@
+package com.artfriendly.artfriendly.benchmark;
+
+import com.artfriendly.artfriendly.domain.auth.jwt.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 모든 인증 요청마다 호출되는 access token 검증 경로
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenizerBenchmark {
+    private static final String SECRET_KEY = "artfriendly-benchmark-secret-key-0123456789abcdef";
+
+    private JwtTokenizer jwtTokenizer;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // getClaims 는 JwtService 를 사용하지 않는다.
+        jwtTokenizer = new JwtTokenizer(null);
+        accessToken = Jwts.builder()
+                .setClaims(Map.of("roles", List.of("USER")))
+                .setAudience("1")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
+                .compact();
+    }
+
+    @Benchmark
+    public Jws<Claims> getClaims() {
+        return jwtTokenizer.getClaims(accessToken, SECRET_KEY);
+    }
+}
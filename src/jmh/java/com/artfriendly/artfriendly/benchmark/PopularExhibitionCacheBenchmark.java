@@ -0,0 +1,36 @@
+package com.artfriendly.artfriendly.benchmark;
+
+import com.artfriendly.artfriendly.domain.exhibition.cache.PopularExhibitionCache;
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRankRspDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 인기 전시 10개 조회는 요청마다 캐시 맵을 복사하고 정렬한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PopularExhibitionCacheBenchmark {
+    private final PopularExhibitionCache popularExhibitionCache = new PopularExhibitionCache();
+
+    @Setup
+    public void setUp() {
+        List<ExhibitionRankRspDto> exhibitionRankRspDtoList = new ArrayList<>();
+        LocalDate startDate = LocalDate.of(2024, 5, 1);
+        for (int rank = 1; rank <= 10; rank++) {
+            exhibitionRankRspDtoList.add(new ExhibitionRankRspDto(
+                    100L + rank, rank, "인기 전시 " + rank, "https://image.artfriendly.com/exhibition/" + rank + ".jpg",
+                    startDate, startDate.plusDays(60), "아트프렌들리 갤러리", "서울", String.valueOf(rank % 3)));
+        }
+        popularExhibitionCache.putExhibitionRankRspDtoListInCache(exhibitionRankRspDtoList);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<ExhibitionRankRspDto> getExhibitionRankRspDtoList() {
+        return popularExhibitionCache.getExhibitionRankRspDtoList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.artfriendly.artfriendly.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+// 빈 포트에 MariaDB 를 띄운다. 애플리케이션은 운영과 같은 mysql-connector-j 드라이버로 접속한다.
+public class EmbeddedDatabase implements AutoCloseable {
+    private static final String DATABASE_NAME = "artfriendly";
+
+    private final DB db;
+    private final DBConfiguration configuration;
+
+    private EmbeddedDatabase(DB db, DBConfiguration configuration) {
+        this.db = db;
+        this.configuration = configuration;
+    }
+
+    public static EmbeddedDatabase start() throws ManagedProcessException {
+        DBConfiguration configuration = DBConfigurationBuilder.newBuilder()
+                .setPort(0) // 0 이면 빈 포트를 찾는다.
+                .addArg("--character-set-server=utf8mb4")
+                .addArg("--collation-server=utf8mb4_unicode_ci")
+                .addArg("--max-connections=500")
+                .build();
+        DB db = DB.newEmbeddedDB(configuration);
+        db.start();
+        db.createDB(DATABASE_NAME);
+        return new EmbeddedDatabase(db, configuration);
+    }
+
+    public String jdbcUrl() {
+        return "jdbc:mysql://localhost:" + configuration.getPort() + "/" + DATABASE_NAME
+                + "?useSSL=false&allowPublicKeyRetrieval=true&useUnicode=true&characterEncoding=UTF-8&serverTimezone=Asia/Seoul";
+    }
+
+    public boolean isSameDatabase(String jdbcUrl) {
+        return jdbcUrl != null && jdbcUrl.startsWith("jdbc:mysql://localhost:" + configuration.getPort() + "/" + DATABASE_NAME);
+    }
+
+    public String username() {
+        return "root";
+    }
+
+    public String password() {
+        return "";
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+}
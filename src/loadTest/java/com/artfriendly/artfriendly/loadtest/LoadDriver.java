@@ -0,0 +1,139 @@
+package com.artfriendly.artfriendly.loadtest;
+
+import com.artfriendly.artfriendly.loadtest.report.LatencyRecorder;
+import com.artfriendly.artfriendly.loadtest.report.LoadTestReport;
+import com.artfriendly.artfriendly.loadtest.report.ScenarioResult;
+import com.artfriendly.artfriendly.loadtest.scenario.RequestContext;
+import com.artfriendly.artfriendly.loadtest.scenario.Scenario;
+import com.artfriendly.artfriendly.loadtest.seed.SeededDataset;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 동시 요청 수만큼 작업 스레드를 두고, 응답을 받으면 바로 다음 요청을 보내는 closed-loop 방식으로 부하를 건다.
+// 워밍업 구간의 결과는 버리고 측정 구간만 집계한다.
+@Slf4j
+public class LoadDriver {
+    private final LoadTestProperties properties;
+    private final String threadMode;
+    private final SeededDataset dataset;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public LoadDriver(LoadTestProperties properties, String threadMode, SeededDataset dataset, String baseUrl, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.threadMode = threadMode;
+        this.dataset = dataset;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    public LoadTestReport run() throws Exception {
+        log.info("워밍업 {}초", properties.warmup().toSeconds());
+        runPhase(properties.warmup(), properties.seed());
+
+        log.info("측정 {}초, 동시 요청 {}", properties.duration().toSeconds(), properties.concurrency());
+        long startTime = System.nanoTime();
+        Map<Scenario, LatencyRecorder> recorders = runPhase(properties.duration(), properties.seed() + 1);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+        List<ScenarioResult> scenarioResultList = new ArrayList<>();
+        LatencyRecorder totalRecorder = new LatencyRecorder();
+        recorders.forEach((scenario, recorder) -> {
+            scenarioResultList.add(recorder.summarize(scenario.getLabel(), elapsedSeconds));
+            totalRecorder.merge(recorder);
+        });
+
+        return new LoadTestReport(
+                properties.profile(),
+                threadMode,
+                properties.concurrency(),
+                elapsedSeconds,
+                dataset.memberIds().length,
+                dataset.exhibitionIds().length,
+                dataset.dambyeolagIds().length,
+                scenarioResultList,
+                totalRecorder.summarize("total", elapsedSeconds));
+    }
+
+    private Map<Scenario, LatencyRecorder> runPhase(Duration duration, long seed) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executorService = Executors.newFixedThreadPool(properties.concurrency());
+        try {
+            List<Future<Map<Scenario, LatencyRecorder>>> futureList = new ArrayList<>();
+            for (int i = 0; i < properties.concurrency(); i++) {
+                RequestContext context = new RequestContext(baseUrl, dataset, objectMapper, new Random(seed * 31 + i));
+                futureList.add(executorService.submit(() -> runWorker(context, deadline)));
+            }
+
+            Map<Scenario, LatencyRecorder> merged = new EnumMap<>(Scenario.class);
+            for (Future<Map<Scenario, LatencyRecorder>> future : futureList) {
+                future.get().forEach((scenario, recorder) ->
+                        merged.computeIfAbsent(scenario, key -> new LatencyRecorder()).merge(recorder));
+            }
+            return merged;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Map<Scenario, LatencyRecorder> runWorker(RequestContext context, long deadline) {
+        List<Scenario> scenarioList = Scenario.applicableTo(context);
+        int[] cumulativeWeights = cumulativeWeights(scenarioList);
+        Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = pick(scenarioList, cumulativeWeights, context.random());
+            LatencyRecorder recorder = recorders.computeIfAbsent(scenario, key -> new LatencyRecorder());
+            context.nextMember();
+
+            long requestStart = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(scenario.request(context), HttpResponse.BodyHandlers.discarding());
+                recorder.record(System.nanoTime() - requestStart, response.statusCode());
+            } catch (IOException e) {
+                recorder.recordFailure();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return recorders;
+    }
+
+    private static int[] cumulativeWeights(List<Scenario> scenarioList) {
+        int[] cumulativeWeights = new int[scenarioList.size()];
+        int sum = 0;
+        for (int i = 0; i < scenarioList.size(); i++) {
+            sum += scenarioList.get(i).getWeight();
+            cumulativeWeights[i] = sum;
+        }
+        return cumulativeWeights;
+    }
+
+    private static Scenario pick(List<Scenario> scenarioList, int[] cumulativeWeights, Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i])
+                return scenarioList.get(i);
+        }
+        return scenarioList.get(scenarioList.size() - 1);
+    }
+}
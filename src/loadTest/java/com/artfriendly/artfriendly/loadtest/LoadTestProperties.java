@@ -0,0 +1,42 @@
+package com.artfriendly.artfriendly.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// 부하 테스트 설정, gradle -P 값이 loadtest.* 시스템 프로퍼티로 넘어온다.
+public record LoadTestProperties(
+        int members,
+        int exhibitions,
+        int likes,
+        int hopes,
+        int dambyeolags,
+        int stickers,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        boolean virtualThreads,
+        String profile,
+        long seed,
+        Path resultsDir
+) {
+    public static LoadTestProperties fromSystemProperties() {
+        return new LoadTestProperties(
+                intProperty("members", 1000),
+                intProperty("exhibitions", 500),
+                intProperty("likes", 30000),
+                intProperty("hopes", 15000),
+                intProperty("dambyeolags", 3000),
+                intProperty("stickers", 10000),
+                intProperty("concurrency", 32),
+                Duration.ofSeconds(intProperty("warmupSeconds", 15)),
+                Duration.ofSeconds(intProperty("durationSeconds", 60)),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtualThreads", "false")),
+                System.getProperty("loadtest.profile", "default"),
+                Long.parseLong(System.getProperty("loadtest.seed", "42")),
+                Path.of(System.getProperty("loadtest.resultsDir", "build/results/loadtest")));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.artfriendly.artfriendly.loadtest;
+
+import com.artfriendly.artfriendly.ArtfriendlyApplication;
+import com.artfriendly.artfriendly.global.config.VirtualThreadConfig;
+import com.artfriendly.artfriendly.loadtest.report.LoadTestReport;
+import com.artfriendly.artfriendly.loadtest.seed.DatasetSeeder;
+import com.artfriendly.artfriendly.loadtest.seed.SeededDataset;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 내장 MariaDB 위에 애플리케이션을 띄우고, 합성 데이터를 채운 뒤 혼합 부하를 걸어 결과를 기록한다.
+// 외부 연동(카카오, S3)은 기동에 필요한 값만 채우고 호출하지 않는다.
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+        log.info("부하 테스트 설정 : {}", properties);
+        if (properties.virtualThreads() && !JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE))
+            throw new IllegalStateException("가상 스레드 비교는 Java 21 이상에서 실행해야 합니다. 현재 Java " + JavaVersion.getJavaVersion());
+
+        try (EmbeddedDatabase database = EmbeddedDatabase.start();
+             ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(ArtfriendlyApplication.class)
+                     .run(applicationArgs(database, properties, args))) {
+            verifyEmbeddedDatabase(applicationContext, database);
+            String threadMode = VirtualThreadConfig.isVirtualThreadActive(applicationContext.getEnvironment()) ? "virtual" : "platform";
+            if (properties.virtualThreads() != "virtual".equals(threadMode))
+                throw new IllegalStateException("요청한 스레드 모드와 실제 실행 모드가 다릅니다. 실제 : " + threadMode);
+
+            SeededDataset dataset = new DatasetSeeder(applicationContext, properties.seed()).seed(properties);
+            String baseUrl = "http://localhost:" + applicationContext.getEnvironment().getProperty("local.server.port");
+            ObjectMapper objectMapper = applicationContext.getBean(ObjectMapper.class);
+
+            LoadTestReport report = new LoadDriver(properties, threadMode, dataset, baseUrl, objectMapper).run();
+            report.print(System.out);
+            Path reportFile = report.write(properties.resultsDir(), objectMapper);
+            log.info("부하 테스트 결과 저장 : {}", reportFile);
+        }
+    }
+
+    // 기본 프로퍼티(SpringApplication.setDefaultProperties)는 application.yml 보다 우선순위가 낮아 덮어쓰이므로
+    // 명령행 인자로 넘겨 application.yml 과 프로필 파일보다 우선하게 한다.
+    private static String[] applicationArgs(EmbeddedDatabase database, LoadTestProperties properties, String[] args) {
+        List<String> applicationArgs = new ArrayList<>();
+        applicationProperties(database, properties).forEach((name, value) -> applicationArgs.add("--" + name + "=" + value));
+        applicationArgs.addAll(List.of(args));
+        return applicationArgs.toArray(String[]::new);
+    }
+
+    private static Map<String, Object> applicationProperties(EmbeddedDatabase database, LoadTestProperties properties) {
+        Map<String, Object> applicationProperties = new LinkedHashMap<>();
+        applicationProperties.put("server.port", 0);
+        applicationProperties.put("spring.threads.virtual.enabled", properties.virtualThreads());
+        applicationProperties.put("spring.datasource.url", database.jdbcUrl());
+        applicationProperties.put("DATABASE_USERNAME", database.username());
+        applicationProperties.put("DATABASE_PASSWORD", database.password());
+        applicationProperties.put("datasource.routing.enabled", false);
+        // 내장 DB 는 비어 있으므로 프로필과 관계없이 스키마를 만든다.
+        applicationProperties.put("spring.jpa.hibernate.ddl-auto", "update");
+        if (!"default".equals(properties.profile()))
+            applicationProperties.put("spring.profiles.active", properties.profile());
+
+        applicationProperties.put("KAKAO_CLIENT_ID", "loadtest");
+        applicationProperties.put("KAKAO_CLIENT_SECRET", "loadtest");
+        applicationProperties.put("S3_BUCKET_NAME", "loadtest");
+        applicationProperties.put("S3_BUCKET_ACCESSKEY", "loadtest");
+        applicationProperties.put("S3_BUCKET_SECRETKEY", "loadtest");
+        applicationProperties.put("ADMIN_EMAIL", "admin@artfriendly.com");
+        applicationProperties.put("JWT_SECRET_KEY", "artfriendly-loadtest-secret-key-artfriendly-loadtest");
+        return applicationProperties;
+    }
+
+    // 설정이 덮어쓰여 운영 DB 에 데이터를 채우는 일이 없도록, 시드 전에 실제 접속한 DB 를 확인한다.
+    private static void verifyEmbeddedDatabase(ConfigurableApplicationContext applicationContext, EmbeddedDatabase database) throws SQLException {
+        try (Connection connection = applicationContext.getBean(DataSource.class).getConnection()) {
+            String url = connection.getMetaData().getURL();
+            if (!database.isSameDatabase(url))
+                throw new IllegalStateException("내장 DB 가 아닌 " + url + " 에 접속했습니다.");
+        }
+    }
+}
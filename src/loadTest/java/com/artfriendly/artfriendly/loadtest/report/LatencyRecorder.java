@@ -0,0 +1,57 @@
+package com.artfriendly.artfriendly.loadtest.report;
+
+import java.util.Arrays;
+
+// 한 시나리오의 응답 시간(ns)과 결과 수, 작업 스레드마다 따로 쌓고 끝난 뒤 합친다.
+// 4xx 는 중복 담벼락처럼 서비스가 거절한 요청이고, 5xx 와 연결 실패/타임아웃은 오류로 센다.
+public class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int count;
+    private long rejected;
+    private long errors;
+
+    public void record(long latencyNanos, int statusCode) {
+        if (count == latencies.length)
+            latencies = Arrays.copyOf(latencies, count * 2);
+        latencies[count++] = latencyNanos;
+        if (statusCode >= 500)
+            errors++;
+        else if (statusCode >= 400)
+            rejected++;
+    }
+
+    public void recordFailure() {
+        errors++;
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length)
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        rejected += other.rejected;
+        errors += other.errors;
+    }
+
+    public ScenarioResult summarize(String scenario, double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new ScenarioResult(
+                scenario,
+                count,
+                rejected,
+                errors,
+                count / elapsedSeconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0)
+            return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
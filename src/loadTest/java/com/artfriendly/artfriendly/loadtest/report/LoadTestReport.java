@@ -0,0 +1,47 @@
+package com.artfriendly.artfriendly.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// 실행 조건과 시나리오별/전체 결과, 프로필이나 스레드 모드를 바꾼 실행을 같은 데이터로 비교할 수 있게 JSON 으로 남긴다.
+public record LoadTestReport(
+        String profile,
+        String threadMode,
+        int concurrency,
+        double elapsedSeconds,
+        int members,
+        int exhibitions,
+        int dambyeolags,
+        List<ScenarioResult> scenarios,
+        ScenarioResult total
+) {
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public void print(PrintStream out) {
+        out.printf("%n부하 테스트 결과 (%s 프로필, %s 스레드, 동시 요청 %d, %.1f초)%n", profile, threadMode, concurrency, elapsedSeconds);
+        out.printf("%-40s %9s %8s %7s %10s %9s %9s %9s %9s%n",
+                "scenario", "requests", "rejected", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        scenarios.forEach(result -> printRow(out, result));
+        printRow(out, total);
+    }
+
+    public Path write(Path resultsDir, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(resultsDir);
+        Path file = resultsDir.resolve("loadtest-" + profile + "-" + threadMode + "-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+        return file;
+    }
+
+    private static void printRow(PrintStream out, ScenarioResult result) {
+        out.printf("%-40s %9d %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                result.scenario(), result.requests(), result.rejected(), result.errors(), result.throughput(),
+                result.p50Millis(), result.p95Millis(), result.p99Millis(), result.maxMillis());
+    }
+}
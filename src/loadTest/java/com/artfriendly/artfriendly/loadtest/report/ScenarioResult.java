@@ -0,0 +1,14 @@
+package com.artfriendly.artfriendly.loadtest.report;
+
+public record ScenarioResult(
+        String scenario,
+        long requests,
+        long rejected,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+) {
+}
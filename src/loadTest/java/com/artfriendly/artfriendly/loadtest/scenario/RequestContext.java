@@ -0,0 +1,77 @@
+package com.artfriendly.artfriendly.loadtest.scenario;
+
+import com.artfriendly.artfriendly.loadtest.seed.SeededDataset;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Random;
+
+// 작업 스레드마다 하나씩 두고, 요청마다 회원을 새로 골라 그 회원의 토큰으로 요청을 만든다.
+public class RequestContext {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final SeededDataset dataset;
+    private final ObjectMapper objectMapper;
+    private final Random random;
+    private int memberIndex;
+
+    public RequestContext(String baseUrl, SeededDataset dataset, ObjectMapper objectMapper, Random random) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.objectMapper = objectMapper;
+        this.random = random;
+    }
+
+    public void nextMember() {
+        this.memberIndex = dataset.pickMemberIndex(random);
+    }
+
+    public Random random() {
+        return random;
+    }
+
+    public SeededDataset dataset() {
+        return dataset;
+    }
+
+    public long exhibitionId() {
+        return dataset.pickExhibitionId(random);
+    }
+
+    public long dambyeolagId() {
+        return dataset.pickDambyeolagId(random);
+    }
+
+    public HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    public HttpRequest post(String path) {
+        return builder(path).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    public HttpRequest delete(String path) {
+        return builder(path).DELETE().build();
+    }
+
+    public HttpRequest postJson(String path, Object body) {
+        try {
+            return builder(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + dataset.accessTokens().get(memberIndex));
+    }
+}
@@ -0,0 +1,149 @@
+package com.artfriendly.artfriendly.loadtest.scenario;
+
+import com.artfriendly.artfriendly.domain.dambyeolag.dto.dambyeolag.DambyeolagReqDto;
+import com.artfriendly.artfriendly.domain.dambyeolag.dto.sticker.StickerReqDto;
+import com.artfriendly.artfriendly.domain.dambyeolag.entity.StickerType;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+// 혼합 부하 구성, weight 는 전체 요청 중 비율(%)이다.
+// 조회 85%, 쓰기 15% 로 앱 사용 로그의 대략적인 비율을 따른다.
+public enum Scenario {
+    EXHIBITION_DETAILS("GET /exhibitions", 20, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/exhibitions?exhibitionId=" + context.exhibitionId());
+        }
+    },
+    EXHIBITION_LIST("GET /exhibitions/lists", 15, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/exhibitions/lists?page=" + context.random().nextInt(5)
+                    + "&area=" + encode(AREAS[context.random().nextInt(AREAS.length)])
+                    + "&progressStatus=inProgress"
+                    + "&sortType=" + SORT_TYPES[context.random().nextInt(SORT_TYPES.length)]);
+        }
+    },
+    POPULAR_EXHIBITIONS("GET /exhibitions/lists/popular", 10, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/exhibitions/lists/popular");
+        }
+    },
+    ENDING_EXHIBITIONS("GET /exhibitions/lists/end", 8, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/exhibitions/lists/end");
+        }
+    },
+    INTEREST_EXHIBITIONS("GET /exhibitions/lists/interest/cursor", 7, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/exhibitions/lists/interest/cursor");
+        }
+    },
+    RECOMMENDED_EXHIBITIONS("GET /exhibitions/recommendations", 5, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/exhibitions/recommendations?size=10");
+        }
+    },
+    SEARCH_EXHIBITIONS("GET /exhibitions/search", 8, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/exhibitions/search?page=0&keyword=" + encode(KEYWORDS[context.random().nextInt(KEYWORDS.length)]));
+        }
+    },
+    DAMBYEOLAG_LIST("GET /dambyeolags/lists", 8, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/dambyeolags/lists?page=0&exhibitionId=" + context.exhibitionId()
+                    + "&sortType=" + (context.random().nextBoolean() ? "popular" : "recent"));
+        }
+    },
+    DAMBYEOLAG_DETAILS("GET /dambyeolags", 4, true) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.get("/dambyeolags?dambyeolagId=" + context.dambyeolagId());
+        }
+    },
+    ADD_LIKE("POST /exhibitions/likes", 4, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.post("/exhibitions/likes?exhibitionId=" + context.exhibitionId());
+        }
+    },
+    DELETE_LIKE("DELETE /exhibitions/likes", 3, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.delete("/exhibitions/likes?exhibitionId=" + context.exhibitionId());
+        }
+    },
+    ADD_HOPE("POST /exhibitions/hopes", 3, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.post("/exhibitions/hopes?exhibitionId=" + context.exhibitionId() + "&hopeIndex=" + (1 + context.random().nextInt(5)));
+        }
+    },
+    DELETE_HOPE("DELETE /exhibitions/hopes", 1, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.delete("/exhibitions/hopes?exhibitionId=" + context.exhibitionId());
+        }
+    },
+    CREATE_DAMBYEOLAG("POST /dambyeolags", 1, false) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            return context.postJson("/dambyeolags", new DambyeolagReqDto(
+                    "부하 테스트 담벼락", "부하 테스트 중에 작성한 감상입니다.", context.exhibitionId()));
+        }
+    },
+    ADD_STICKER("POST /stickers", 3, true) {
+        @Override
+        public HttpRequest request(RequestContext context) {
+            StickerType[] stickerTypes = StickerType.values();
+            return context.postJson("/stickers", new StickerReqDto(
+                    stickerTypes[context.random().nextInt(stickerTypes.length)], "좋은 글이에요", context.dambyeolagId()));
+        }
+    };
+
+    private static final String[] AREAS = {"서울", "경기/인천", "경남/부산", "경북/대구", "충청/대전", "전라/광주", "강원", "제주"};
+    private static final String[] SORT_TYPES = {"popular", "trending", "recent"};
+    private static final String[] KEYWORDS = {"미술", "사진", "빛", "그림자", "갤러리", "기록", "전시 1"};
+
+    private final String label;
+    private final int weight;
+    private final boolean requiresDambyeolag;
+
+    Scenario(String label, int weight, boolean requiresDambyeolag) {
+        this.label = label;
+        this.weight = weight;
+        this.requiresDambyeolag = requiresDambyeolag;
+    }
+
+    public abstract HttpRequest request(RequestContext context);
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    // 담벼락을 만들지 않은 경우 담벼락 id 가 필요한 시나리오는 뺀다.
+    public static List<Scenario> applicableTo(RequestContext context) {
+        boolean hasDambyeolag = context.dataset().dambyeolagIds().length > 0;
+        return Arrays.stream(values())
+                .filter(scenario -> hasDambyeolag || !scenario.requiresDambyeolag)
+                .toList();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
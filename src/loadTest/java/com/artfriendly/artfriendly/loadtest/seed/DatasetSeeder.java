@@ -0,0 +1,201 @@
+package com.artfriendly.artfriendly.loadtest.seed;
+
+import com.artfriendly.artfriendly.domain.auth.jwt.JwtTokenizer;
+import com.artfriendly.artfriendly.domain.dambyeolag.entity.Dambyeolag;
+import com.artfriendly.artfriendly.domain.dambyeolag.entity.Sticker;
+import com.artfriendly.artfriendly.domain.dambyeolag.entity.StickerType;
+import com.artfriendly.artfriendly.domain.dambyeolag.repository.DambyeolagRepository;
+import com.artfriendly.artfriendly.domain.dambyeolag.repository.StickerRepository;
+import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionHope;
+import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionInfo;
+import com.artfriendly.artfriendly.domain.exhibition.repository.ExhibitionHopeRepository;
+import com.artfriendly.artfriendly.domain.exhibition.repository.ExhibitionLikeRepository;
+import com.artfriendly.artfriendly.domain.exhibition.repository.ExhibitionRepository;
+import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionService;
+import com.artfriendly.artfriendly.domain.member.entity.Member;
+import com.artfriendly.artfriendly.domain.member.repository.MemberRepository;
+import com.artfriendly.artfriendly.domain.member.service.MemberService;
+import com.artfriendly.artfriendly.global.init.DataInitializer;
+import com.artfriendly.artfriendly.loadtest.LoadTestProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 애플리케이션 빈을 그대로 사용해 합성 데이터를 채운다.
+// 회원/전시는 서비스 생성 경로를 타고, 대량 행(좋아요, 희망 사항, 담벼락, 스티커)은 청크 단위 트랜잭션으로 넣는다.
+@Slf4j
+public class DatasetSeeder {
+    private static final int CHUNK_SIZE = 500;
+    private static final String[] AREAS = {"서울", "경기", "인천", "부산", "울산", "대구", "대전", "광주", "강원", "제주"};
+    private static final String[] REALMS = {"미술", "사진", "공예", "디자인", "미디어"};
+
+    private final ApplicationContext applicationContext;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    public DatasetSeeder(ApplicationContext applicationContext, long seed) {
+        this.applicationContext = applicationContext;
+        this.transactionTemplate = new TransactionTemplate(applicationContext.getBean(PlatformTransactionManager.class));
+        this.jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        this.random = new Random(seed);
+    }
+
+    public SeededDataset seed(LoadTestProperties properties) throws Exception {
+        long startTime = System.currentTimeMillis();
+
+        List<Member> memberList = seedMembers(properties.members());
+        long[] memberIds = memberList.stream().mapToLong(Member::getId).toArray();
+        long[] exhibitionIds = seedExhibitions(properties.exhibitions());
+        seedLikes(memberIds, exhibitionIds, properties.likes());
+        seedHopes(memberIds, exhibitionIds, properties.hopes());
+        long[] dambyeolagIds = seedDambyeolags(memberIds, exhibitionIds, properties.dambyeolags());
+        seedStickers(memberIds, dambyeolagIds, properties.stickers());
+
+        // 좋아요/희망 사항을 반영한 온도로 다시 계산한 뒤 기동 시 만드는 색인과 캐시를 새 데이터로 다시 만든다.
+        ExhibitionService exhibitionService = applicationContext.getBean(ExhibitionService.class);
+        for (long exhibitionId : exhibitionIds) {
+            exhibitionService.updateExhibitionTemperature(exhibitionId);
+        }
+        applicationContext.getBean(DataInitializer.class).run();
+
+        JwtTokenizer jwtTokenizer = applicationContext.getBean(JwtTokenizer.class);
+        List<String> accessTokens = memberList.stream().map(jwtTokenizer::generateAccessToken).toList();
+
+        log.info("부하 테스트 데이터 생성 완료 : 회원 {}, 전시 {}, 담벼락 {} ({}ms)",
+                memberIds.length, exhibitionIds.length, dambyeolagIds.length, System.currentTimeMillis() - startTime);
+        return new SeededDataset(memberIds, accessTokens, exhibitionIds, dambyeolagIds);
+    }
+
+    private List<Member> seedMembers(int size) {
+        MemberService memberService = applicationContext.getBean(MemberService.class);
+        List<Member> memberList = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            memberList.add(memberService.createMember(
+                    "loadtest" + i + "@artfriendly.com",
+                    "부하회원" + i,
+                    "https://image.artfriendly.com/member/default.jpg"));
+        }
+        return memberList;
+    }
+
+    private long[] seedExhibitions(int size) {
+        ExhibitionService exhibitionService = applicationContext.getBean(ExhibitionService.class);
+        LocalDate today = LocalDate.now();
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            List<ExhibitionInfo> exhibitionInfoList = new ArrayList<>(CHUNK_SIZE);
+            for (int seq = from + 1; seq <= Math.min(from + CHUNK_SIZE, size); seq++) {
+                exhibitionInfoList.add(exhibitionInfo(seq, today));
+            }
+            exhibitionService.createExhibitionList(exhibitionInfoList);
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM exhibition ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // 대부분 진행 중이고, 일부는 종료/예정 전시로 둔다.
+    private ExhibitionInfo exhibitionInfo(int seq, LocalDate today) {
+        int progress = random.nextInt(10);
+        LocalDate startDate = progress < 8 ? today.minusDays(random.nextInt(60))
+                : progress == 8 ? today.minusDays(120 + random.nextInt(60))
+                : today.plusDays(1 + random.nextInt(30));
+        LocalDate endDate = progress == 8 ? today.minusDays(1 + random.nextInt(30))
+                : startDate.plusDays(30 + random.nextInt(90));
+        String progressStatus = progress < 8 ? "inProgress" : progress == 8 ? "end" : "scheduled";
+
+        return ExhibitionInfo.builder()
+                .seq(seq)
+                .title(REALMS[seq % REALMS.length] + " 전시 " + seq + " : 빛과 그림자의 기록")
+                .startDate(startDate)
+                .endDate(endDate)
+                .place("아트프렌들리 갤러리 " + (seq % 50))
+                .realmName(REALMS[random.nextInt(REALMS.length)])
+                .area(AREAS[random.nextInt(AREAS.length)])
+                .imageUrl("https://image.artfriendly.com/exhibition/" + seq + ".jpg")
+                .price("무료")
+                .placeAddr("서울특별시 종로구 " + seq)
+                .progressStatus(progressStatus)
+                .build();
+    }
+
+    private void seedLikes(long[] memberIds, long[] exhibitionIds, int size) {
+        ExhibitionLikeRepository exhibitionLikeRepository = applicationContext.getBean(ExhibitionLikeRepository.class);
+        List<long[]> pairList = distinctPairs(memberIds, exhibitionIds, size);
+        inChunks(pairList, pair -> exhibitionLikeRepository.insertExhibitionLikeIfAbsent(pair[0], pair[1], LocalDateTime.now()));
+    }
+
+    private void seedHopes(long[] memberIds, long[] exhibitionIds, int size) {
+        ExhibitionHopeRepository exhibitionHopeRepository = applicationContext.getBean(ExhibitionHopeRepository.class);
+        ExhibitionHope.Hope[] hopes = ExhibitionHope.Hope.values();
+        List<long[]> pairList = distinctPairs(memberIds, exhibitionIds, size);
+        inChunks(pairList, pair -> exhibitionHopeRepository.insertExhibitionHopeIfAbsent(pair[0], pair[1], hopes[random.nextInt(hopes.length)].name(), LocalDateTime.now()));
+    }
+
+    // 담벼락은 회원당 전시 하나에 한 번만 쓸 수 있다.
+    private long[] seedDambyeolags(long[] memberIds, long[] exhibitionIds, int size) {
+        MemberRepository memberRepository = applicationContext.getBean(MemberRepository.class);
+        ExhibitionRepository exhibitionRepository = applicationContext.getBean(ExhibitionRepository.class);
+        DambyeolagRepository dambyeolagRepository = applicationContext.getBean(DambyeolagRepository.class);
+        List<long[]> pairList = distinctPairs(memberIds, exhibitionIds, size);
+        inChunks(pairList, pair -> dambyeolagRepository.save(Dambyeolag.builder()
+                .title("부하 테스트 담벼락 " + pair[0] + "-" + pair[1])
+                .body("전시를 보고 남기는 감상입니다. ".repeat(1 + random.nextInt(10)))
+                .member(memberRepository.getReferenceById(pair[0]))
+                .exhibition(exhibitionRepository.getReferenceById(pair[1]))
+                .build()));
+        return jdbcTemplate.queryForList("SELECT id FROM dambyeolag ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void seedStickers(long[] memberIds, long[] dambyeolagIds, int size) {
+        if (dambyeolagIds.length == 0)
+            return;
+        MemberRepository memberRepository = applicationContext.getBean(MemberRepository.class);
+        DambyeolagRepository dambyeolagRepository = applicationContext.getBean(DambyeolagRepository.class);
+        StickerRepository stickerRepository = applicationContext.getBean(StickerRepository.class);
+        StickerType[] stickerTypes = StickerType.values();
+        List<long[]> pairList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pairList.add(new long[]{memberIds[random.nextInt(memberIds.length)], dambyeolagIds[SeededDataset.skewedIndex(random, dambyeolagIds.length)]});
+        }
+        inChunks(pairList, pair -> stickerRepository.save(Sticker.builder()
+                .body("좋은 글이에요")
+                .stickerType(stickerTypes[random.nextInt(stickerTypes.length)])
+                .member(memberRepository.getReferenceById(pair[0]))
+                .dambyeolag(dambyeolagRepository.getReferenceById(pair[1]))
+                .build()));
+    }
+
+    // 회원은 고르게, 전시는 인기 편향을 주어 중복 없는 (회원, 전시) 쌍을 만든다.
+    private List<long[]> distinctPairs(long[] memberIds, long[] exhibitionIds, int size) {
+        long capacity = (long) memberIds.length * exhibitionIds.length;
+        int targetSize = (int) Math.min(size, capacity / 2);
+        Set<Long> seen = new HashSet<>(targetSize * 2);
+        List<long[]> pairList = new ArrayList<>(targetSize);
+        while (pairList.size() < targetSize) {
+            int memberIndex = random.nextInt(memberIds.length);
+            int exhibitionIndex = SeededDataset.skewedIndex(random, exhibitionIds.length);
+            if (seen.add((long) memberIndex * exhibitionIds.length + exhibitionIndex))
+                pairList.add(new long[]{memberIds[memberIndex], exhibitionIds[exhibitionIndex]});
+        }
+        return pairList;
+    }
+
+    private void inChunks(List<long[]> pairList, Consumer<long[]> consumer) {
+        for (int from = 0; from < pairList.size(); from += CHUNK_SIZE) {
+            List<long[]> chunk = pairList.subList(from, Math.min(from + CHUNK_SIZE, pairList.size()));
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(consumer));
+        }
+    }
+}
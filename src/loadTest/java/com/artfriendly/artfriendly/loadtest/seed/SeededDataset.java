@@ -0,0 +1,31 @@
+package com.artfriendly.artfriendly.loadtest.seed;
+
+import java.util.List;
+import java.util.Random;
+
+// 시나리오가 요청을 만들 때 쓰는 식별자와 회원별 액세스 토큰
+// 전시는 id 순으로 인기가 높다고 보고 앞쪽에 요청이 몰리도록 고른다.
+public record SeededDataset(
+        long[] memberIds,
+        List<String> accessTokens,
+        long[] exhibitionIds,
+        long[] dambyeolagIds
+) {
+    private static final double POPULARITY_SKEW = 2.0;
+
+    public int pickMemberIndex(Random random) {
+        return random.nextInt(memberIds.length);
+    }
+
+    public long pickExhibitionId(Random random) {
+        return exhibitionIds[skewedIndex(random, exhibitionIds.length)];
+    }
+
+    public long pickDambyeolagId(Random random) {
+        return dambyeolagIds[skewedIndex(random, dambyeolagIds.length)];
+    }
+
+    public static int skewedIndex(Random random, int size) {
+        return Math.min((int) (size * Math.pow(random.nextDouble(), POPULARITY_SKEW)), size - 1);
+    }
+}
@@ -2,6 +2,9 @@ package com.artfriendly.artfriendly.domain.auth.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -10,10 +13,11 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Component
-public class OAuthOTUCache {
+public class OAuthOTUCache implements MeterBinder {
 
     private final Cache<String, Long> codeExpirationCache = Caffeine.newBuilder()
             .expireAfterWrite(30, TimeUnit.SECONDS)
+            .recordStats()
             .build();
 
     public String putVerificationCodeInCache(long targetMemberId) {
@@ -31,4 +35,9 @@ public class OAuthOTUCache {
         codeExpirationCache.invalidate(verificationCode);
         return Objects.requireNonNull(memberId, "verificationCode is invalid");
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, codeExpirationCache, "oauthOTUCache");
+    }
 }
@@ -0,0 +1,44 @@
+package com.artfriendly.artfriendly.domain.catalog.controller;
+
+import com.artfriendly.artfriendly.domain.catalog.dto.EventCatalogRspDto;
+import com.artfriendly.artfriendly.domain.catalog.service.EventCatalogService;
+import com.artfriendly.artfriendly.global.api.RspTemplate;
+import com.artfriendly.artfriendly.global.api.SerializedResponseCache;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("catalogs")
+@RequiredArgsConstructor
+public class EventCatalogController {
+    private final EventCatalogService eventCatalogService;
+    private final SerializedResponseCache serializedResponseCache;
+
+    @GetMapping
+    public ResponseEntity<byte[]> getEventCatalogList(@RequestParam @Min(0) int page,
+                                                      @RequestParam String area,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                      @RequestParam(required = false) String eventType,
+                                                      @RequestParam(required = false) String sortType,
+                                                      WebRequest webRequest) {
+        Page<EventCatalogRspDto> eventCatalogRspDtos = eventCatalogService.getEventCatalogPageRspDto(page, area, from, to, eventType, sortType);
+        String key = "catalogs?page=" + page + "&area=" + area + "&from=" + from + "&to=" + to + "&eventType=" + eventType + "&sortType=" + sortType;
+        return serializedResponseCache.get(key, eventCatalogRspDtos,
+                () -> new RspTemplate<>(HttpStatus.OK, "행사 "+page+" 페이지 조회", eventCatalogRspDtos)).toResponseEntity(webRequest);
+    }
+
+    @PostMapping("/refresh")
+    public RspTemplate<Void> refreshEventCatalog() {
+        eventCatalogService.refreshEventCatalog();
+        return new RspTemplate<>(HttpStatus.OK, "행사 카탈로그 동기화");
+    }
+}
@@ -0,0 +1,20 @@
+package com.artfriendly.artfriendly.domain.catalog.dto;
+
+import com.artfriendly.artfriendly.domain.catalog.entity.EventType;
+
+import java.time.LocalDate;
+
+public record EventCatalogRspDto(
+        EventType eventType,
+        long eventId,
+        String title,
+        String place,
+        String area,
+        String imageUrl,
+        LocalDate startDate,
+        LocalDate endDate,
+        double gpsX,
+        double gpsY,
+        Double temperature
+) {
+}
@@ -0,0 +1,65 @@
+package com.artfriendly.artfriendly.domain.catalog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 전시, 축제 조회용 비정규화 테이블 (EventCatalogRepository 의 동기화 쿼리로만 갱신)
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_catalog_event", columnNames = {"event_type", "event_id"}),
+        indexes = {
+                @Index(name = "idx_event_catalog_area_end_date", columnList = "area, end_date, start_date"),
+                @Index(name = "idx_event_catalog_temperature", columnList = "temperature")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventCatalog {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType eventType;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column
+    private String title;
+
+    @Column
+    private String place;
+
+    @Column
+    private String area;
+
+    @Column(length = 1000)
+    private String imageUrl;
+
+    @Column
+    private LocalDate startDate;
+
+    @Column
+    private LocalDate endDate;
+
+    @Column
+    private double gpsX;
+
+    @Column
+    private double gpsY;
+
+    @Column
+    private String progressStatus;
+
+    @Column
+    private Double temperature;
+
+    @Column
+    private LocalDateTime lastSyncedTime;
+}
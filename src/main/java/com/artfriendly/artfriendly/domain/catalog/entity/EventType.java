@@ -0,0 +1,6 @@
+package com.artfriendly.artfriendly.domain.catalog.entity;
+
+public enum EventType {
+    EXHIBITION,
+    FESTIVAL
+}
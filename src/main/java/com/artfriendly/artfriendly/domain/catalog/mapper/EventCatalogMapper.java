@@ -0,0 +1,10 @@
+package com.artfriendly.artfriendly.domain.catalog.mapper;
+
+import com.artfriendly.artfriendly.domain.catalog.dto.EventCatalogRspDto;
+import com.artfriendly.artfriendly.domain.catalog.entity.EventCatalog;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface EventCatalogMapper {
+    EventCatalogRspDto eventCatalogToEventCatalogRspDto(EventCatalog eventCatalog);
+}
@@ -0,0 +1,83 @@
+package com.artfriendly.artfriendly.domain.catalog.repository;
+
+import com.artfriendly.artfriendly.domain.catalog.entity.EventCatalog;
+import com.artfriendly.artfriendly.domain.catalog.entity.EventType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventCatalogRepository extends JpaRepository<EventCatalog, Long> {
+    // 기간이 겹치는 행사 조회 (시작일 <= 조회 종료일 AND 종료일 >= 조회 시작일)
+    @Query("SELECT ec FROM EventCatalog ec " +
+            "WHERE ec.area IN :areas " +
+            "AND ec.startDate <= :to " +
+            "AND ec.endDate >= :from " +
+            "AND (:eventType IS NULL OR ec.eventType = :eventType)")
+    Page<EventCatalog> findEventCatalogByAreaAndPeriod(Pageable pageable,
+                                                       @Param("areas") List<String> areas,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to,
+                                                       @Param("eventType") EventType eventType);
+
+    // 최신순은 전시 목록과 같이 시작일이 오늘과 가까운 순 (MySQL)
+    @Query(value = "SELECT ec.* FROM event_catalog ec " +
+            "WHERE ec.area IN :areas " +
+            "AND ec.start_date <= :to " +
+            "AND ec.end_date >= :from " +
+            "AND (:eventType IS NULL OR ec.event_type = :eventType) " +
+            "ORDER BY ABS(DATEDIFF(ec.start_date, :now)) ASC, ec.id ASC",
+            countQuery = "SELECT COUNT(*) FROM event_catalog ec " +
+                    "WHERE ec.area IN :areas " +
+                    "AND ec.start_date <= :to " +
+                    "AND ec.end_date >= :from " +
+                    "AND (:eventType IS NULL OR ec.event_type = :eventType)",
+            nativeQuery = true)
+    Page<EventCatalog> findEventCatalogByAreaAndPeriodOrderByStartDateNearest(Pageable pageable,
+                                                                              @Param("areas") List<String> areas,
+                                                                              @Param("from") LocalDate from,
+                                                                              @Param("to") LocalDate to,
+                                                                              @Param("eventType") String eventType,
+                                                                              @Param("now") LocalDate now);
+
+    // 전시, 축제 원본 테이블에서 한 번의 INSERT ... SELECT 로 동기화 (MySQL)
+    @Modifying
+    @Query(value = "INSERT INTO event_catalog (event_type, event_id, title, place, area, image_url, start_date, end_date, " +
+            "gps_x, gps_y, progress_status, temperature, last_synced_time) " +
+            "SELECT 'EXHIBITION', e.id, ei.title, ei.place, ei.area, ei.image_url, ei.start_date, ei.end_date, " +
+            "ei.gps_x, ei.gps_y, ei.progress_status, e.temperature, :now " +
+            "FROM exhibition e " +
+            "INNER JOIN exhibition_info ei ON ei.exhibition_id = e.id " +
+            "ON DUPLICATE KEY UPDATE title = VALUES(title), place = VALUES(place), area = VALUES(area), " +
+            "image_url = VALUES(image_url), start_date = VALUES(start_date), end_date = VALUES(end_date), " +
+            "gps_x = VALUES(gps_x), gps_y = VALUES(gps_y), progress_status = VALUES(progress_status), " +
+            "temperature = VALUES(temperature), last_synced_time = VALUES(last_synced_time)",
+            nativeQuery = true)
+    int upsertExhibitionCatalog(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "INSERT INTO event_catalog (event_type, event_id, title, place, area, image_url, start_date, end_date, " +
+            "gps_x, gps_y, progress_status, temperature, last_synced_time) " +
+            "SELECT 'FESTIVAL', f.id, fi.title, fi.place, fi.area, fi.image_url, fi.start_date, fi.end_date, " +
+            "fi.gps_x, fi.gps_y, fi.progress_status, COALESCE(f.temperature, 0), :now " +
+            "FROM festival f " +
+            "INNER JOIN festival_info fi ON fi.festival_id = f.id " +
+            "WHERE fi.start_date IS NOT NULL AND fi.end_date IS NOT NULL " +
+            "ON DUPLICATE KEY UPDATE title = VALUES(title), place = VALUES(place), area = VALUES(area), " +
+            "image_url = VALUES(image_url), start_date = VALUES(start_date), end_date = VALUES(end_date), " +
+            "gps_x = VALUES(gps_x), gps_y = VALUES(gps_y), progress_status = VALUES(progress_status), " +
+            "temperature = VALUES(temperature), last_synced_time = VALUES(last_synced_time)",
+            nativeQuery = true)
+    int upsertFestivalCatalog(@Param("now") LocalDateTime now);
+
+    // 이번 동기화에서 갱신되지 않은 행 = 원본이 삭제된 행사
+    @Modifying
+    @Query(value = "DELETE FROM event_catalog WHERE last_synced_time < :now", nativeQuery = true)
+    int deleteStaleCatalog(@Param("now") LocalDateTime now);
+}
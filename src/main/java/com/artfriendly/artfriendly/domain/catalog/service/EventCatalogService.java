@@ -0,0 +1,12 @@
+package com.artfriendly.artfriendly.domain.catalog.service;
+
+import com.artfriendly.artfriendly.domain.catalog.dto.EventCatalogRspDto;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
+
+public interface EventCatalogService {
+    Page<EventCatalogRspDto> getEventCatalogPageRspDto(int page, String area, LocalDate from, LocalDate to, String eventType, String sortType);
+
+    void refreshEventCatalog();
+}
@@ -0,0 +1,86 @@
+package com.artfriendly.artfriendly.domain.catalog.service;
+
+import com.artfriendly.artfriendly.domain.catalog.dto.EventCatalogRspDto;
+import com.artfriendly.artfriendly.domain.catalog.entity.EventCatalog;
+import com.artfriendly.artfriendly.domain.catalog.entity.EventType;
+import com.artfriendly.artfriendly.domain.catalog.mapper.EventCatalogMapper;
+import com.artfriendly.artfriendly.domain.catalog.repository.EventCatalogRepository;
+import com.artfriendly.artfriendly.global.exception.common.BusinessException;
+import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
+import com.artfriendly.artfriendly.global.utils.AreaGroup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Slf4j
+@Primary
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EventCatalogServiceImpl implements EventCatalogService {
+    private static final int PAGE_SIZE = 8;
+
+    private final EventCatalogRepository eventCatalogRepository;
+    private final EventCatalogMapper eventCatalogMapper;
+
+    @Override
+    @Cacheable(value = "eventCatalogPageCache", cacheManager = "eventCatalogCache", sync = true)
+    public Page<EventCatalogRspDto> getEventCatalogPageRspDto(int page, String area, LocalDate from, LocalDate to, String eventType, String sortType) {
+        if (to.isBefore(from))
+            throw new BusinessException(ErrorCode.INVALID_CATALOG_PERIOD);
+
+        EventType type = toEventType(eventType);
+        Page<EventCatalog> eventCatalogPage;
+        if ("recent".equals(sortType)) {
+            eventCatalogPage = eventCatalogRepository.findEventCatalogByAreaAndPeriodOrderByStartDateNearest(
+                    PageRequest.of(page, PAGE_SIZE), AreaGroup.toAreas(area), from, to, type == null ? null : type.name(), LocalDate.now());
+        } else {
+            Pageable pageable = PageRequest.of(page, PAGE_SIZE, toSort(sortType));
+            eventCatalogPage = eventCatalogRepository.findEventCatalogByAreaAndPeriod(
+                    pageable, AreaGroup.toAreas(area), from, to, type);
+        }
+
+        return eventCatalogPage.map(eventCatalogMapper::eventCatalogToEventCatalogRspDto);
+    }
+
+    // 전체 동기화이므로 캐시도 전체 무효화
+    @Override
+    @Transactional
+    @CacheEvict(value = "eventCatalogPageCache", allEntries = true, cacheManager = "eventCatalogCache")
+    public void refreshEventCatalog() {
+        // DATETIME 컬럼 정밀도에 맞춰 초 단위로 절삭
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        int exhibitionCount = eventCatalogRepository.upsertExhibitionCatalog(now);
+        int festivalCount = eventCatalogRepository.upsertFestivalCatalog(now);
+        int deletedCount = eventCatalogRepository.deleteStaleCatalog(now);
+        log.info("행사 카탈로그 동기화 완료 : 전시 {}, 축제 {}, 삭제 {}", exhibitionCount, festivalCount, deletedCount);
+    }
+
+    private Sort toSort(String sortType) {
+        if ("end".equals(sortType))
+            return Sort.by(Sort.Order.asc("endDate"), Sort.Order.asc("id"));
+        return Sort.by(Sort.Order.desc("temperature"), Sort.Order.asc("id"));
+    }
+
+    private EventType toEventType(String eventType) {
+        if (eventType == null || eventType.isBlank())
+            return null;
+        try {
+            return EventType.valueOf(eventType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.EVENT_TYPE_NOT_FOUND);
+        }
+    }
+}
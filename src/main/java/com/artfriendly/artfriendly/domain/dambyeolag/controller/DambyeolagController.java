@@ -2,6 +2,8 @@ package com.artfriendly.artfriendly.domain.dambyeolag.controller;
 
 import com.artfriendly.artfriendly.domain.dambyeolag.dto.dambyeolag.*;
 import com.artfriendly.artfriendly.domain.dambyeolag.service.dambyeolag.DambyeolagService;
+import com.artfriendly.artfriendly.domain.userlog.activity.ActivityType;
+import com.artfriendly.artfriendly.domain.userlog.service.UserLogService;
 import com.artfriendly.artfriendly.global.api.RspTemplate;
 
 import jakarta.validation.Valid;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class DambyeolagController {
     private final DambyeolagService dambyeolagService;
+    private final UserLogService userLogService;
     @GetMapping
     public RspTemplate<DambyeolagDetailsRspDto> getDambyeolag(@AuthenticationPrincipal long memberId, @NotNull long dambyeolagId) {
         return new RspTemplate<>(HttpStatus.OK,"담벼락 id: "+dambyeolagId+" 세부조회", dambyeolagService.getDetailsDambyeolag(memberId, dambyeolagId));
@@ -26,6 +29,7 @@ public class DambyeolagController {
     @PostMapping
     public RspTemplate<Void> createDambyeolag(@AuthenticationPrincipal long memberId, @Valid @RequestBody DambyeolagReqDto dambyeolagReqDto) {
         dambyeolagService.createDambyeolag(dambyeolagReqDto, memberId);
+        userLogService.recordActivity(ActivityType.DAMBYEOLAG_WRITE);
         return new RspTemplate<>(HttpStatus.CREATED, "담벼락 생성");
     }
 
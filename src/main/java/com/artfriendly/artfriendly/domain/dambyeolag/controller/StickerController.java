@@ -3,6 +3,8 @@ package com.artfriendly.artfriendly.domain.dambyeolag.controller;
 import com.artfriendly.artfriendly.domain.dambyeolag.dto.sticker.StickerReqDto;
 import com.artfriendly.artfriendly.domain.dambyeolag.dto.sticker.StickerRspDto;
 import com.artfriendly.artfriendly.domain.dambyeolag.service.sticker.StickerService;
+import com.artfriendly.artfriendly.domain.userlog.activity.ActivityType;
+import com.artfriendly.artfriendly.domain.userlog.service.UserLogService;
 import com.artfriendly.artfriendly.global.api.RspTemplate;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class StickerController {
     private final StickerService stickerService;
+    private final UserLogService userLogService;
 
     @GetMapping
     public RspTemplate<StickerRspDto> getStickerById(@NotNull int stickerId) {
@@ -31,6 +34,7 @@ public class StickerController {
     @PostMapping
     public RspTemplate<Void> addSticker(@AuthenticationPrincipal long memberId, @Valid @RequestBody StickerReqDto stickerReqDto) {
         stickerService.addSticker(stickerReqDto, memberId);
+        userLogService.recordActivity(ActivityType.STICKER);
         return new RspTemplate<>(HttpStatus.CREATED, "스티커 추가");
     }
 }
@@ -2,6 +2,7 @@ package com.artfriendly.artfriendly.domain.dambyeolag.repository;
 
 import com.artfriendly.artfriendly.domain.dambyeolag.entity.DambyeolagBookmark;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,9 +13,10 @@ public interface DambyeolagBookmarkRepository extends JpaRepository<DambyeolagBo
     @Query("SELECT d FROM DambyeolagBookmark d " +
             "WHERE d.dambyeolag.id = :dambyeolagId")
     List<DambyeolagBookmark> findDambyeolagBookmarkByDambyeolagId(@Param("dambyeolagId") long dambyeolagId);
-    @Query("SELECT d FROM DambyeolagBookmark d " +
-            "where d.member.id = :memberId")
-    List<DambyeolagBookmark> findDambyeolagBookmarkByMemberId(@Param("memberId") long memberId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DambyeolagBookmark d " +
+            "WHERE d.member.id = :memberId")
+    int deleteByMemberId(@Param("memberId") long memberId);
 
     Optional<DambyeolagBookmark> findDambyeolagBookmarkByDambyeolagIdAndMemberId(long dambyeolagId, long memberId);
 }
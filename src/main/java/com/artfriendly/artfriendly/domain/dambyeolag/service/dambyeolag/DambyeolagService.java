@@ -2,7 +2,6 @@ package com.artfriendly.artfriendly.domain.dambyeolag.service.dambyeolag;
 
 import com.artfriendly.artfriendly.domain.dambyeolag.dto.dambyeolag.*;
 import com.artfriendly.artfriendly.domain.dambyeolag.entity.Dambyeolag;
-import com.artfriendly.artfriendly.domain.member.entity.Member;
 import org.springframework.data.domain.Page;
 
 public interface DambyeolagService {
@@ -15,7 +14,6 @@ public interface DambyeolagService {
     Page<DambyeolagImageRspDto> getBookmarkDambyeolagPageOrderByCreateTime(int page, long memberId);
     Dambyeolag findById(long dambyeolagId);
     void deleteBookmark(long memberId, long dambyeolagBookmarkId);
-    void deleteBookmarksByMember(Member member);
     void addBookmark(long memberId, long dambyeolagId);
 
 }
@@ -130,15 +130,6 @@ public class DambyeolagServiceImpl implements DambyeolagService {
         dambyeolagBookmarkRepository.delete(dambyeolagBookmark);
     }
 
-    @Override
-    @Transactional
-    public void deleteBookmarksByMember(Member member) {
-        List<DambyeolagBookmark> dambyeolagBookmarkList = dambyeolagBookmarkRepository.findDambyeolagBookmarkByMemberId(member.getId());
-        member.setDambyeolagBookmarkList(null);
-
-        dambyeolagBookmarkRepository.deleteAll(dambyeolagBookmarkList);
-    }
-
     @Override
     @Transactional
     public void addBookmark(long memberId, long dambyeolagId) {
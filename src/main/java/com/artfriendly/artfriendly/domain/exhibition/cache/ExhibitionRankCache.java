@@ -0,0 +1,54 @@
+package com.artfriendly.artfriendly.domain.exhibition.cache;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRankRspDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// 상위 10개 전시 순위 캐시, 이전 순위와 비교해 순위 변동을 계산할 때 사용
+public abstract class ExhibitionRankCache implements MeterBinder {
+    private final Cache<Long, ExhibitionRankRspDto> exhibitionRank = Caffeine.newBuilder()
+            .initialCapacity(10)
+            .maximumSize(10)
+            .recordStats()
+            .build();
+
+    private void putExhibitionRankRspDtoInCache(ExhibitionRankRspDto exhibitionRankRspDto) {
+        exhibitionRank.put(exhibitionRankRspDto.exhibitionId(), exhibitionRankRspDto);
+    }
+
+    public void putExhibitionRankRspDtoListInCache(List<ExhibitionRankRspDto> exhibitionRankRspDtoList) {
+        for(ExhibitionRankRspDto exhibitionRankRspDto : exhibitionRankRspDtoList) {
+            putExhibitionRankRspDtoInCache(exhibitionRankRspDto);
+        }
+    }
+
+    public ExhibitionRankRspDto getExhibitionRankRspDto(long exhibitionId) {
+        return exhibitionRank.getIfPresent(exhibitionId);
+    }
+
+    public List<ExhibitionRankRspDto> getExhibitionRankRspDtoList() {
+        Map<Long, ExhibitionRankRspDto> map = exhibitionRank.asMap();
+        List<ExhibitionRankRspDto> exhibitionRankRspDtoList = new ArrayList<>(map.values());
+        exhibitionRankRspDtoList.sort(Comparator.comparing(ExhibitionRankRspDto::rank));
+        return exhibitionRankRspDtoList;
+    }
+
+    public void clearExhibitionRankCache() {
+        exhibitionRank.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, exhibitionRank, StringUtils.uncapitalize(ClassUtils.getUserClass(this).getSimpleName()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.artfriendly.artfriendly.domain.exhibition.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+// 회원별 좋아요한 전시 id 목록 (좋아요 id 내림차순 = 최근 좋아요 순)
+// 좋아요 삭제는 커밋 후에 캐시에 있는 회원 목록에서 빼고, 추가는 새 좋아요 id 를 알 수 없으므로 회원 목록을 비워 다음 조회 때 DB 에서 불러온다.
+// 회원별 무효화 버전을 함께 두어, 무효화 이전 스냅샷으로 불러온 목록이 무효화 뒤에 캐시에 들어가지 않게 한다.
+// 조회하는 쪽은 트랜잭션의 첫 쿼리 전에 version 을 읽고, 불러온 목록은 그 사이 버전이 그대로일 때만 캐시에 넣는다.
+@Component
+public class LikedExhibitionCache implements MeterBinder {
+    private final Cache<Long, LikedExhibitions> likedExhibitions = Caffeine.newBuilder()
+            .expireAfterWrite(30, TimeUnit.MINUTES)
+            .initialCapacity(100)
+            .maximumSize(10000)
+            .recordStats()
+            .build();
+    // 진행 중인 조회보다 오래 남아 있으면 되므로 목록보다 길게 둔다. 만료되어 0 으로 돌아가도 버전이 달라져 캐시에 넣지 않을 뿐이다.
+    private final Cache<Long, Long> versions = Caffeine.newBuilder()
+            .expireAfterWrite(2, TimeUnit.HOURS)
+            .maximumSize(100000)
+            .build();
+
+    public long version(long memberId) {
+        Long version = versions.getIfPresent(memberId);
+        return version == null ? 0 : version;
+    }
+
+    // 캐시에 없으면 불러오고, version 이후 무효화가 없었을 때만 캐시에 넣는다. 넣지 못한 목록은 이번 조회에만 사용한다.
+    public LikedExhibitions getLikedExhibitions(long memberId, long version, LongFunction<List<LikedExhibitionRow>> loader) {
+        LikedExhibitions cachedLikedExhibitions = likedExhibitions.getIfPresent(memberId);
+        if (cachedLikedExhibitions != null)
+            return cachedLikedExhibitions;
+
+        LikedExhibitions loadedLikedExhibitions = LikedExhibitions.of(loader.apply(memberId));
+        LikedExhibitions currentLikedExhibitions = likedExhibitions.asMap().compute(memberId, (key, value) -> {
+            if (value != null)
+                return value;
+            return version(key) == version ? loadedLikedExhibitions : null;
+        });
+        return currentLikedExhibitions == null ? loadedLikedExhibitions : currentLikedExhibitions;
+    }
+
+    public void evictAfterCommit(long memberId) {
+        afterCommit(() -> likedExhibitions.asMap().compute(memberId, (key, value) -> {
+            increaseVersion(key);
+            return null;
+        }));
+    }
+
+    public void removeLikeAfterCommit(long memberId, long exhibitionId) {
+        afterCommit(() -> likedExhibitions.asMap().compute(memberId, (key, value) -> {
+            increaseVersion(key);
+            return value == null ? null : value.remove(exhibitionId);
+        }));
+    }
+
+    // 목록 compute 안에서 호출해, 같은 회원의 캐시 넣기와 버전 증가가 순서대로 일어나게 한다.
+    private void increaseVersion(long memberId) {
+        versions.asMap().merge(memberId, 1L, Long::sum);
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, likedExhibitions, "likedExhibitionCache");
+    }
+
+    public record LikedExhibitions(long[] likeIds, long[] exhibitionIds) {
+        private static LikedExhibitions of(List<LikedExhibitionRow> likedExhibitionRowList) {
+            long[] likeIds = new long[likedExhibitionRowList.size()];
+            long[] exhibitionIds = new long[likedExhibitionRowList.size()];
+            for (int i = 0; i < likedExhibitionRowList.size(); i++) {
+                likeIds[i] = likedExhibitionRowList.get(i).likeId();
+                exhibitionIds[i] = likedExhibitionRowList.get(i).exhibitionId();
+            }
+            return new LikedExhibitions(likeIds, exhibitionIds);
+        }
+
+        public int size() {
+            return likeIds.length;
+        }
+
+        // cursor 보다 작은 좋아요 id 의 첫 위치, cursor 가 없으면 처음부터
+        public int indexAfter(Long cursor) {
+            if (cursor == null)
+                return 0;
+            int low = 0;
+            int high = likeIds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (likeIds[mid] >= cursor)
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+            return low;
+        }
+
+        public List<LikedExhibitionRow> subList(int fromIndex, int size) {
+            int toIndex = Math.min(fromIndex + size, likeIds.length);
+            LikedExhibitionRow[] likedExhibitionRows = new LikedExhibitionRow[Math.max(toIndex - fromIndex, 0)];
+            for (int i = fromIndex; i < toIndex; i++) {
+                likedExhibitionRows[i - fromIndex] = new LikedExhibitionRow(likeIds[i], exhibitionIds[i]);
+            }
+            return List.of(likedExhibitionRows);
+        }
+
+        private LikedExhibitions remove(long exhibitionId) {
+            for (int i = 0; i < exhibitionIds.length; i++) {
+                if (exhibitionIds[i] != exhibitionId)
+                    continue;
+                long[] newLikeIds = new long[likeIds.length - 1];
+                long[] newExhibitionIds = new long[exhibitionIds.length - 1];
+                System.arraycopy(likeIds, 0, newLikeIds, 0, i);
+                System.arraycopy(exhibitionIds, 0, newExhibitionIds, 0, i);
+                System.arraycopy(likeIds, i + 1, newLikeIds, i, likeIds.length - i - 1);
+                System.arraycopy(exhibitionIds, i + 1, newExhibitionIds, i, exhibitionIds.length - i - 1);
+                return new LikedExhibitions(newLikeIds, newExhibitionIds);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.artfriendly.artfriendly.domain.exhibition.cache;
+
+public record LikedExhibitionRow(
+        long likeId,
+        long exhibitionId
+) {
+}
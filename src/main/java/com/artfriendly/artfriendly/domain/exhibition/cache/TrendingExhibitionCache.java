@@ -0,0 +1,8 @@
+package com.artfriendly.artfriendly.domain.exhibition.cache;
+
+import org.springframework.stereotype.Component;
+
+// 시간 감쇠 점수(trending score) 기준 순위
+@Component
+public class TrendingExhibitionCache extends ExhibitionRankCache {
+}
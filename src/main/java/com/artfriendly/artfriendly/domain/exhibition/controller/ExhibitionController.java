@@ -3,29 +3,56 @@ package com.artfriendly.artfriendly.domain.exhibition.controller;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionDetailsRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRankRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSliceRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSuggestRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionRecommendationService;
+import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionSearchService;
 import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionService;
+import com.artfriendly.artfriendly.domain.userlog.activity.ActivityType;
+import com.artfriendly.artfriendly.domain.userlog.service.UserLogService;
+import com.artfriendly.artfriendly.global.api.ETagResponses;
 import com.artfriendly.artfriendly.global.api.RspTemplate;
+import com.artfriendly.artfriendly.global.api.SerializedResponse;
+import com.artfriendly.artfriendly.global.api.SerializedResponseCache;
+import com.artfriendly.artfriendly.global.exception.common.BusinessException;
+import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("exhibitions")
 @RequiredArgsConstructor
 public class ExhibitionController {
     private final ExhibitionService exhibitionService;
+    private final ExhibitionSearchService exhibitionSearchService;
+    private final ExhibitionRecommendationService exhibitionRecommendationService;
+    private final UserLogService userLogService;
+    private final SerializedResponseCache serializedResponseCache;
+
     @GetMapping
-    public RspTemplate<ExhibitionDetailsRspDto> getExhibitionDetails(@AuthenticationPrincipal long memberId,
-                                                                     @RequestParam @NotNull long exhibitionId) {
+    public ResponseEntity<byte[]> getExhibitionDetails(@AuthenticationPrincipal long memberId,
+                                                       @RequestParam @NotNull long exhibitionId,
+                                                       ServletWebRequest webRequest) {
         ExhibitionDetailsRspDto exhibitionDetailsRspDto = exhibitionService.getExhibitionDetailsRpsDtoById(memberId, exhibitionId);
-        return new RspTemplate<>(HttpStatus.OK, "전시 id : "+exhibitionId+" 조회", exhibitionDetailsRspDto);
+        // 304 로 응답하는 재검증 요청도 회원이 전시 화면을 연 것이므로 활동으로 기록한다.
+        userLogService.recordActivity(ActivityType.EXHIBITION_VIEW);
+        // 상세 캐시 내용이 그대로면 캐시해 둔 ETag 와 바이트를 쓰므로, 304 든 200 이든 다시 직렬화하지 않는다.
+        SerializedResponse serializedResponse = serializedResponseCache.get("exhibitions?exhibitionId=" + exhibitionId + "&memberId=" + memberId,
+                exhibitionDetailsRspDto, () -> new RspTemplate<>(HttpStatus.OK, "전시 id : "+exhibitionId+" 조회", exhibitionDetailsRspDto));
+        if (ETagResponses.isNotModified(webRequest, serializedResponse.eTag()))
+            return null;
+        return serializedResponse.toResponseEntity(webRequest);
     }
 
     @GetMapping("/lists")
@@ -45,16 +72,33 @@ public class ExhibitionController {
         return new RspTemplate<>(HttpStatus.OK, "관심 전시 페이지 조회", exhibitionRspDtos);
     }
 
+    @GetMapping("/lists/interest/cursor")
+    public RspTemplate<ExhibitionSliceRspDto> getInterestExhibitionSlice(@AuthenticationPrincipal long memberId,
+                                                                        @RequestParam(required = false) Long cursor) {
+        ExhibitionSliceRspDto exhibitionSliceRspDto = exhibitionService.getInterestExhibitionSliceRspDto(memberId, cursor);
+        return new RspTemplate<>(HttpStatus.OK, "관심 전시 조회", exhibitionSliceRspDto);
+    }
+
     @GetMapping("/lists/end")
-    public RspTemplate<List<ExhibitionRspDto>> getEndSoonExhibitionList(@AuthenticationPrincipal long memberId) {
+    public ResponseEntity<byte[]> getEndSoonExhibitionList(@AuthenticationPrincipal long memberId, ServletWebRequest webRequest) {
         List<ExhibitionRspDto> exhibitionRspDtoList = exhibitionService.getTop3ExhibitionsByEndingDate(memberId);
-        return new RspTemplate<>(HttpStatus.OK, "곧 종료되는 인기 전시 3개", exhibitionRspDtoList);
+        SerializedResponse serializedResponse = serializedResponseCache.get("exhibitions/lists/end?memberId=" + memberId, exhibitionRspDtoList,
+                () -> new RspTemplate<>(HttpStatus.OK, "곧 종료되는 인기 전시 3개", exhibitionRspDtoList));
+        if (ETagResponses.isNotModified(webRequest, serializedResponse.eTag()))
+            return null;
+        return serializedResponse.toResponseEntity(webRequest);
     }
 
     @GetMapping("/lists/popular")
-    public RspTemplate<List<ExhibitionRankRspDto>> getPopularExhibitionList() {
-        List<ExhibitionRankRspDto> exhibitionRankRspDtoList = exhibitionService.getTop10PopularExhibitionRankRspDto();
-        return new RspTemplate<>(HttpStatus.OK, "현재 인기 전시 10개", exhibitionRankRspDtoList);
+    public ResponseEntity<byte[]> getPopularExhibitionList(@RequestParam(defaultValue = "popular") String sortType,
+                                                         ServletWebRequest webRequest) {
+        String rankSortType = toRankSortType(sortType);
+        List<ExhibitionRankRspDto> exhibitionRankRspDtoList = exhibitionService.getTop10PopularExhibitionRankRspDto(rankSortType);
+        SerializedResponse serializedResponse = serializedResponseCache.get("exhibitions/lists/popular?sortType=" + rankSortType, exhibitionRankRspDtoList,
+                () -> new RspTemplate<>(HttpStatus.OK, "현재 인기 전시 10개", exhibitionRankRspDtoList));
+        if (ETagResponses.isNotModified(webRequest, serializedResponse.eTag()))
+            return null;
+        return serializedResponse.toResponseEntity(webRequest);
     }
 
     @GetMapping("/lists/popular/clear")
@@ -63,10 +107,32 @@ public class ExhibitionController {
         return new RspTemplate<>(HttpStatus.OK, "현재 인기 전시 10개 캐시 초기화");
     }
 
+    @GetMapping("/recommendations")
+    public RspTemplate<List<ExhibitionRspDto>> getRecommendedExhibitionList(@AuthenticationPrincipal long memberId,
+                                                                            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size) {
+        List<ExhibitionRspDto> exhibitionRspDtoList = exhibitionRecommendationService.getRecommendedExhibitionRspDtoList(memberId, size);
+        return new RspTemplate<>(HttpStatus.OK, "추천 전시 "+exhibitionRspDtoList.size()+"개", exhibitionRspDtoList);
+    }
+
+    @GetMapping("/search")
+    public RspTemplate<Page<ExhibitionRspDto>> searchExhibitionList(@AuthenticationPrincipal long memberId,
+                                                                    @RequestParam String keyword,
+                                                                    @RequestParam @Min(0) int page) {
+        Page<ExhibitionRspDto> exhibitionRspDtos = exhibitionSearchService.searchExhibitionPageRspDto(memberId, keyword, page);
+        return new RspTemplate<>(HttpStatus.OK, "전시 검색 결과 "+page+" 페이지 조회", exhibitionRspDtos);
+    }
+
+    @GetMapping("/search/autocomplete")
+    public RspTemplate<List<ExhibitionSuggestRspDto>> getExhibitionSuggestList(@RequestParam String keyword) {
+        List<ExhibitionSuggestRspDto> exhibitionSuggestRspDtoList = exhibitionSearchService.getExhibitionSuggestRspDtoList(keyword);
+        return new RspTemplate<>(HttpStatus.OK, "전시 검색어 자동완성", exhibitionSuggestRspDtoList);
+    }
+
     @PostMapping("/likes")
     public RspTemplate<Void> addExhibitionLike(@AuthenticationPrincipal long memberId,
                                                @RequestParam @NotNull long exhibitionId) {
         exhibitionService.addExhibitionLike(memberId, exhibitionId);
+        userLogService.recordActivity(ActivityType.EXHIBITION_LIKE);
         return new RspTemplate<>(HttpStatus.CREATED, "전시 id : "+exhibitionId+" 좋아요 추가");
     }
 
@@ -81,6 +147,7 @@ public class ExhibitionController {
     public RspTemplate<Void> addExhibitionHope(@AuthenticationPrincipal long memberId,
                                                @RequestParam @NotNull long exhibitionId, @RequestParam @Min(1) @Max(5) int hopeIndex) {
         exhibitionService.addExhibitionHope(memberId, exhibitionId, hopeIndex);
+        userLogService.recordActivity(ActivityType.EXHIBITION_HOPE);
         return new RspTemplate<>(HttpStatus.CREATED, "전시 id : "+exhibitionId+" 전시 희망 "+hopeIndex+" 추가");
     }
 
@@ -97,4 +164,12 @@ public class ExhibitionController {
         exhibitionService.deleteExhibitionHope(memberId, exhibitionId);
         return new RspTemplate<>(HttpStatus.OK, "전시 id : "+exhibitionId+" 전시 희망 삭제");
     }
+
+    // 응답 캐시 키에 들어가므로 두 정렬 타입만 받고 소문자로 맞춘다.
+    private String toRankSortType(String sortType) {
+        String normalized = sortType.trim().toLowerCase(Locale.ROOT);
+        if (!normalized.equals("popular") && !normalized.equals("trending"))
+            throw new BusinessException(ErrorCode.SORT_TYPE_NOT_FOUND);
+        return normalized;
+    }
 }
@@ -1,11 +1,14 @@
 package com.artfriendly.artfriendly.domain.exhibition.dto;
 
+import java.util.List;
+
 public record ExhibitionDetailsRspDto(
         long id,
         Double temperature,
         String checkTemperature,
         boolean isLike,
         boolean hasDambyeolagWritten,
-        ExhibitionInfoRspDto exhibitionInfoRspDto
+        ExhibitionInfoRspDto exhibitionInfoRspDto,
+        List<SimilarExhibitionRspDto> similarExhibitionRspDtoList
 ) {
 }
@@ -0,0 +1,11 @@
+package com.artfriendly.artfriendly.domain.exhibition.dto;
+
+import java.util.List;
+
+// 다음 페이지는 nextCursor(마지막 전시의 좋아요 id)를 커서로 요청
+public record ExhibitionSliceRspDto(
+        List<ExhibitionRspDto> exhibitionRspDtoList,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
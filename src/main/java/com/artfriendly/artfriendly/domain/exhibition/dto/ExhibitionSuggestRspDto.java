@@ -0,0 +1,7 @@
+package com.artfriendly.artfriendly.domain.exhibition.dto;
+
+public record ExhibitionSuggestRspDto(
+        long exhibitionId,
+        String title
+) {
+}
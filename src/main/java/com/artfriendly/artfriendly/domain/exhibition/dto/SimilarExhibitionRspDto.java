@@ -0,0 +1,8 @@
+package com.artfriendly.artfriendly.domain.exhibition.dto;
+
+public record SimilarExhibitionRspDto(
+        long exhibitionId,
+        String title,
+        String imageUrl
+) {
+}
@@ -0,0 +1,100 @@
+package com.artfriendly.artfriendly.domain.exhibition.ending;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+
+// 진행 중인 전시를 종료일 오름차순(같은 날이면 온도 내림차순)으로 정렬해 둔 배열
+// 모든 회원이 같은 목록을 공유하고, 좋아요 여부는 조회 시 회원별로 덮어쓴다.
+@Slf4j
+@Component
+public class EndingExhibitionIndex {
+    private static final Comparator<ExhibitionRspDto> ENDING_ORDER = Comparator
+            .comparing(ExhibitionRspDto::endDate)
+            .thenComparing(ExhibitionRspDto::temperature, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparingLong(ExhibitionRspDto::id); // 이진 탐색으로 한 전시의 위치를 찾을 수 있도록 순서를 유일하게 한다.
+
+    private volatile ExhibitionRspDto[] exhibitions = new ExhibitionRspDto[0];
+    private Map<Long, ExhibitionRspDto> exhibitionById = new HashMap<>(); // 쓰기(synchronized)에서만 사용
+
+    public synchronized void rebuild(List<ExhibitionRspDto> exhibitionRspDtoList) {
+        ExhibitionRspDto[] newExhibitions = exhibitionRspDtoList.stream()
+                .filter(exhibitionRspDto -> exhibitionRspDto.endDate() != null)
+                .sorted(ENDING_ORDER)
+                .toArray(ExhibitionRspDto[]::new);
+        Map<Long, ExhibitionRspDto> newExhibitionById = new HashMap<>();
+        for (ExhibitionRspDto exhibitionRspDto : newExhibitions) {
+            newExhibitionById.put(exhibitionRspDto.id(), exhibitionRspDto);
+        }
+        this.exhibitions = newExhibitions;
+        this.exhibitionById = newExhibitionById;
+        log.info("종료 임박 전시 색인 생성 완료 : {}건", newExhibitions.length);
+    }
+
+    // 트랜잭션 안에서는 커밋된 뒤에 반영하고, 롤백되면 반영하지 않는다.
+    public void updateTemperatureAfterCommit(long exhibitionId, double temperature) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateTemperature(exhibitionId, temperature);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateTemperature(exhibitionId, temperature);
+            }
+        });
+    }
+
+    // 온도가 바뀐 전시 하나만 이진 탐색으로 이전 위치에서 빼서 새 위치에 넣는다. (전체를 다시 정렬하지 않음)
+    // 조회는 잠금 없이 배열을 읽으므로 복사본을 만들어 교체한다.
+    public synchronized void updateTemperature(long exhibitionId, double temperature) {
+        ExhibitionRspDto oldExhibition = exhibitionById.get(exhibitionId);
+        if (oldExhibition == null || Objects.equals(oldExhibition.temperature(), temperature))
+            return;
+
+        ExhibitionRspDto newExhibition = new ExhibitionRspDto(
+                oldExhibition.id(),
+                oldExhibition.title(),
+                oldExhibition.imageUrl(),
+                temperature,
+                oldExhibition.startDate(),
+                oldExhibition.endDate(),
+                oldExhibition.area(),
+                oldExhibition.isLike());
+
+        ExhibitionRspDto[] currentExhibitions = this.exhibitions;
+        int from = Arrays.binarySearch(currentExhibitions, oldExhibition, ENDING_ORDER);
+        int insertionPoint = -(Arrays.binarySearch(currentExhibitions, newExhibition, ENDING_ORDER) + 1);
+        int to = insertionPoint > from ? insertionPoint - 1 : insertionPoint;
+
+        ExhibitionRspDto[] newExhibitions = currentExhibitions.clone();
+        if (to > from)
+            System.arraycopy(currentExhibitions, from + 1, newExhibitions, from, to - from);
+        else if (to < from)
+            System.arraycopy(currentExhibitions, to, newExhibitions, to + 1, from - to);
+        newExhibitions[to] = newExhibition;
+
+        this.exhibitions = newExhibitions;
+        exhibitionById.put(exhibitionId, newExhibition);
+    }
+
+    // 오늘 이후 종료되는 전시 중 앞에서 size 개, 이미 종료일이 지난 전시는 이진 탐색으로 건너뛴다.
+    public List<ExhibitionRspDto> getEndingExhibitions(LocalDate today, int size) {
+        ExhibitionRspDto[] currentExhibitions = this.exhibitions;
+        int low = 0;
+        int high = currentExhibitions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (currentExhibitions[mid].endDate().isBefore(today))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return List.of(Arrays.copyOfRange(currentExhibitions, low, Math.min(low + size, currentExhibitions.length)));
+    }
+}
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_exhibition_trending_score", columnList = "trending_score"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Exhibition {
@@ -23,6 +24,10 @@ public class Exhibition {
     @NotNull
     private Double temperature;
 
+    // 시간 감쇠 인기 점수, 동시 갱신을 위해 ExhibitionRepository.addTrendingScore 로만 변경한다.
+    @Column(insertable = false, updatable = false, columnDefinition = "double default 0 not null")
+    private double trendingScore;
+
     @OneToMany(mappedBy = "exhibition", cascade = CascadeType.ALL,  fetch = FetchType.LAZY)
     List<ExhibitionHope> exhibitionHopeList = new ArrayList<>();
 
@@ -1,5 +1,6 @@
 package com.artfriendly.artfriendly.domain.exhibition.entity;
 
+import com.artfriendly.artfriendly.domain.common.BaseTimeEntity;
 import com.artfriendly.artfriendly.domain.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -8,9 +9,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_exhibition_hope_member_exhibition", columnNames = {"member_id", "exhibition_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ExhibitionHope {
+public class ExhibitionHope extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
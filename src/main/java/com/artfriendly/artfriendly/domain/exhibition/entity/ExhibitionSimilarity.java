@@ -0,0 +1,26 @@
+package com.artfriendly.artfriendly.domain.exhibition.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 전시별 유사 전시 목록, ExhibitionSimilarityIndex 계산 결과를 재시작 시 바로 불러오기 위해 저장
+@Entity
+@Table(indexes = @Index(name = "idx_exhibition_similarity_exhibition_id", columnList = "exhibition_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExhibitionSimilarity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private long exhibitionId;
+
+    @Column(nullable = false)
+    private long similarExhibitionId;
+
+    @Column(nullable = false)
+    private double score;
+}
@@ -4,23 +4,26 @@ import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionDetailsRspDto
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionInfoRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRankRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.SimilarExhibitionRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.entity.Exhibition;
 import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionInfo;
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.Set;
 
 @Mapper(componentModel = "spring")
 public interface ExhibitionMapper {
-    default ExhibitionDetailsRspDto exhibitionToExhibitionDetailsRspDto(Exhibition exhibition, String checkTemperature, boolean isLike, boolean hasDambyeolagBeenWritten) {
+    default ExhibitionDetailsRspDto exhibitionToExhibitionDetailsRspDto(Exhibition exhibition, String checkTemperature, boolean isLike, boolean hasDambyeolagBeenWritten, List<SimilarExhibitionRspDto> similarExhibitionRspDtoList) {
         return new ExhibitionDetailsRspDto(
                 exhibition.getId(),
                 exhibition.getTemperature(),
                 checkTemperature,
                 isLike,
                 hasDambyeolagBeenWritten,
-                exhibitionInfoToExhibitionInfoRspDto(exhibition.getExhibitionInfo())
+                exhibitionInfoToExhibitionInfoRspDto(exhibition.getExhibitionInfo()),
+                similarExhibitionRspDtoList
         );
     }
 
@@ -37,7 +40,7 @@ public interface ExhibitionMapper {
         ));
     }
 
-    default List<ExhibitionRspDto> exhibitionsToExhibitionRspDtos(List<Exhibition> exhibitions, long memberId) {
+    default List<ExhibitionRspDto> exhibitionsToExhibitionRspDtos(List<Exhibition> exhibitions, Set<Long> likedExhibitionIds) {
         return exhibitions.stream().map(exhibition -> new ExhibitionRspDto(
                 exhibition.getId(),
                 exhibition.getExhibitionInfo().getTitle(),
@@ -46,7 +49,20 @@ public interface ExhibitionMapper {
                 exhibition.getExhibitionInfo().getStartDate(),
                 exhibition.getExhibitionInfo().getEndDate(),
                 exhibition.getExhibitionInfo().getArea(),
-                exhibition.getExhibitionLikeList().stream().anyMatch(exhibitionLike -> exhibitionLike.getMember().getId() == memberId)
+                likedExhibitionIds.contains(exhibition.getId())
+        )).toList();
+    }
+
+    default List<ExhibitionRspDto> exhibitionRspDtosWithLike(List<ExhibitionRspDto> exhibitionRspDtos, Set<Long> likedExhibitionIds) {
+        return exhibitionRspDtos.stream().map(exhibitionRspDto -> new ExhibitionRspDto(
+                exhibitionRspDto.id(),
+                exhibitionRspDto.title(),
+                exhibitionRspDto.imageUrl(),
+                exhibitionRspDto.temperature(),
+                exhibitionRspDto.startDate(),
+                exhibitionRspDto.endDate(),
+                exhibitionRspDto.area(),
+                likedExhibitionIds.contains(exhibitionRspDto.id())
         )).toList();
     }
 
@@ -0,0 +1,230 @@
+package com.artfriendly.artfriendly.domain.exhibition.recommend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// MBTI x 전시 취향 세그먼트별 추천 후보 목록
+// 세그먼트 회원들의 좋아요/희망 사항 합을 시드로 두고, 전체 회원의 함께 좋아한 전시(co-occurrence)로 한 번 확장한 뒤
+// 진행 중인 전시만 상위 CANDIDATE_SIZE 개를 원시 배열로 보관한다. 요청 시에는 회원이 속한 세그먼트 목록만 합친다.
+@Slf4j
+@Component
+public class ExhibitionRecommender {
+    public static final String ANY = "*";
+    private static final int CANDIDATE_SIZE = 100;
+    private static final float LIKE_WEIGHT = 1.0f;
+    private static final float CO_OCCURRENCE_WEIGHT = 0.3f;
+    private static final float REALM_PRIOR = 0.2f; // 취향과 분야가 같은 전시에 주는 기본 점수 (세그먼트 최고 점수 대비)
+    private static final float MBTI_FALLBACK_WEIGHT = 0.5f;
+    private static final float GLOBAL_FALLBACK_WEIGHT = 0.25f;
+
+    // 키는 (MBTI 16종 또는 *) x (ArtPreferenceType 18종 또는 *), 최대 17 x 19 = 323개
+    private volatile Map<String, Segment> segments = Map.of();
+
+    public void rebuild(List<MemberSegmentRow> memberSegmentRows,
+                        List<MemberExhibitionRow> memberExhibitionRows,
+                        List<RecommendCandidateRow> candidateRows) {
+        long startTime = System.currentTimeMillis();
+        // 관심 없음 등 음수 평가는 함께 좋아한 전시가 아니므로 유사 전시 인덱스와 같이 제외한다.
+        List<MemberExhibitionRow> positiveRows = memberExhibitionRows.stream()
+                .filter(row -> weight(row) > 0)
+                .toList();
+
+        // 전시 번호 부여, 후보(진행 중) 전시 표시
+        Map<Long, Integer> itemNoByExhibitionId = new HashMap<>();
+        List<Long> exhibitionIdList = new ArrayList<>();
+        List<String> realmNameList = new ArrayList<>();
+        for (RecommendCandidateRow candidateRow : candidateRows) {
+            itemNoByExhibitionId.put(candidateRow.exhibitionId(), exhibitionIdList.size());
+            exhibitionIdList.add(candidateRow.exhibitionId());
+            realmNameList.add(candidateRow.realmName());
+        }
+        int candidateCount = exhibitionIdList.size();
+        for (MemberExhibitionRow row : positiveRows) {
+            if (itemNoByExhibitionId.putIfAbsent(row.exhibitionId(), exhibitionIdList.size()) == null)
+                exhibitionIdList.add(row.exhibitionId());
+        }
+        int itemCount = exhibitionIdList.size();
+
+        // 회원별 (전시 번호, 가중치)를 CSR 형태로 저장
+        Map<Long, Integer> memberNoByMemberId = new HashMap<>();
+        for (MemberExhibitionRow row : positiveRows) {
+            memberNoByMemberId.putIfAbsent(row.memberId(), memberNoByMemberId.size());
+        }
+        int memberCount = memberNoByMemberId.size();
+        int[] offsets = new int[memberCount + 1];
+        for (MemberExhibitionRow row : positiveRows) {
+            offsets[memberNoByMemberId.get(row.memberId()) + 1]++;
+        }
+        for (int i = 0; i < memberCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] itemNos = new int[positiveRows.size()];
+        float[] weights = new float[positiveRows.size()];
+        int[] cursor = Arrays.copyOf(offsets, memberCount);
+        for (MemberExhibitionRow row : positiveRows) {
+            int position = cursor[memberNoByMemberId.get(row.memberId())]++;
+            itemNos[position] = itemNoByExhibitionId.get(row.exhibitionId());
+            weights[position] = weight(row);
+        }
+        Interactions interactions = new Interactions(offsets, itemNos, weights);
+
+        // 세그먼트별 회원 번호 목록, 한 회원은 (MBTI, 취향), (MBTI, *), (*, 취향), (*, *) 에 모두 속한다.
+        Map<String, Set<Integer>> memberNosBySegment = new HashMap<>();
+        memberNosBySegment.put(segmentKey(ANY, ANY), new HashSet<>(memberNoByMemberId.values()));
+        for (MemberSegmentRow row : memberSegmentRows) {
+            Integer memberNo = memberNoByMemberId.get(row.memberId());
+            if (memberNo == null)
+                continue;
+            String mbtiType = row.mbtiType() == null ? ANY : row.mbtiType();
+            String artPreferenceType = row.artPreferenceType() == null ? ANY : row.artPreferenceType();
+            memberNosBySegment.computeIfAbsent(segmentKey(mbtiType, artPreferenceType), k -> new HashSet<>()).add(memberNo);
+            memberNosBySegment.computeIfAbsent(segmentKey(mbtiType, ANY), k -> new HashSet<>()).add(memberNo);
+            memberNosBySegment.computeIfAbsent(segmentKey(ANY, artPreferenceType), k -> new HashSet<>()).add(memberNo);
+        }
+
+        Map<String, Segment> newSegments = new HashMap<>(memberNosBySegment.size() * 2);
+        for (Map.Entry<String, Set<Integer>> entry : memberNosBySegment.entrySet()) {
+            String artPreferenceType = entry.getKey().substring(entry.getKey().indexOf('|') + 1);
+            float[] scores = scoreSegment(entry.getValue(), interactions, itemCount);
+            applyRealmPrior(scores, artPreferenceType, realmNameList);
+            newSegments.put(entry.getKey(), topCandidates(scores, candidateCount, exhibitionIdList));
+        }
+        this.segments = newSegments;
+
+        log.info("전시 추천 후보 생성 완료 : 세그먼트 {}개, 회원 {}명, 반응 {}건, {}ms",
+                newSegments.size(), memberCount, positiveRows.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 회원이 속한 세그먼트 후보를 합쳐 점수 순으로 반환, 후보가 부족하면 MBTI 전체, 전체 회원 순으로 채운다.
+    public List<Long> recommend(String mbtiType, List<String> artPreferenceTypeList, Set<Long> excludedExhibitionIds, int size) {
+        Map<String, Segment> currentSegments = this.segments;
+        String mbti = mbtiType == null ? ANY : mbtiType;
+
+        Map<Long, Float> scoreByExhibitionId = new HashMap<>();
+        if (artPreferenceTypeList == null || artPreferenceTypeList.isEmpty()) {
+            merge(scoreByExhibitionId, currentSegments.get(segmentKey(mbti, ANY)), 1.0f, excludedExhibitionIds);
+        } else {
+            for (String artPreferenceType : artPreferenceTypeList) {
+                merge(scoreByExhibitionId, currentSegments.get(segmentKey(mbti, artPreferenceType)), 1.0f, excludedExhibitionIds);
+            }
+            if (scoreByExhibitionId.size() < size)
+                merge(scoreByExhibitionId, currentSegments.get(segmentKey(mbti, ANY)), MBTI_FALLBACK_WEIGHT, excludedExhibitionIds);
+        }
+        if (scoreByExhibitionId.size() < size)
+            merge(scoreByExhibitionId, currentSegments.get(segmentKey(ANY, ANY)), GLOBAL_FALLBACK_WEIGHT, excludedExhibitionIds);
+
+        return scoreByExhibitionId.entrySet().stream()
+                .sorted(Map.Entry.<Long, Float>comparingByValue().reversed())
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    private float[] scoreSegment(Set<Integer> memberNos, Interactions interactions, int itemCount) {
+        float[] seed = new float[itemCount];
+        for (int memberNo : memberNos) {
+            for (int i = interactions.offsets[memberNo]; i < interactions.offsets[memberNo + 1]; i++) {
+                seed[interactions.itemNos[i]] += interactions.weights[i];
+            }
+        }
+        normalize(seed);
+
+        // C * seed (C = 전체 회원의 전시-전시 co-occurrence)를 행렬을 만들지 않고 회원 단위로 계산
+        float[] scores = Arrays.copyOf(seed, itemCount);
+        int memberCount = interactions.offsets.length - 1;
+        for (int memberNo = 0; memberNo < memberCount; memberNo++) {
+            int from = interactions.offsets[memberNo];
+            int to = interactions.offsets[memberNo + 1];
+            float dot = 0;
+            for (int i = from; i < to; i++) {
+                dot += seed[interactions.itemNos[i]] * interactions.weights[i];
+            }
+            if (dot <= 0)
+                continue;
+            float scale = CO_OCCURRENCE_WEIGHT * dot / (to - from);
+            for (int i = from; i < to; i++) {
+                scores[interactions.itemNos[i]] += scale * interactions.weights[i];
+            }
+        }
+        normalize(scores);
+        return scores;
+    }
+
+    private void applyRealmPrior(float[] scores, String artPreferenceType, List<String> realmNameList) {
+        if (artPreferenceType.equals(ANY) || artPreferenceType.isBlank())
+            return;
+        for (int itemNo = 0; itemNo < realmNameList.size(); itemNo++) {
+            String realmName = realmNameList.get(itemNo);
+            // 빈 문자열은 모든 문자열에 포함되므로 분야가 비어 있는 전시는 제외
+            if (realmName != null && !realmName.isBlank() && (realmName.contains(artPreferenceType) || artPreferenceType.contains(realmName)))
+                scores[itemNo] += REALM_PRIOR;
+        }
+    }
+
+    // 후보 전시(앞쪽 candidateCount 개) 중 점수가 양수인 상위 CANDIDATE_SIZE 개
+    private Segment topCandidates(float[] scores, int candidateCount, List<Long> exhibitionIdList) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(CANDIDATE_SIZE + 1, Comparator.comparingDouble(itemNo -> scores[itemNo]));
+        for (int itemNo = 0; itemNo < candidateCount; itemNo++) {
+            if (scores[itemNo] <= 0)
+                continue;
+            if (heap.size() < CANDIDATE_SIZE) {
+                heap.add(itemNo);
+            } else if (scores[heap.peek()] < scores[itemNo]) {
+                heap.poll();
+                heap.add(itemNo);
+            }
+        }
+
+        int size = heap.size();
+        long[] exhibitionIds = new long[size];
+        float[] candidateScores = new float[size];
+        for (int i = size - 1; i >= 0; i--) {
+            int itemNo = heap.poll();
+            exhibitionIds[i] = exhibitionIdList.get(itemNo);
+            candidateScores[i] = scores[itemNo];
+        }
+        return new Segment(exhibitionIds, candidateScores);
+    }
+
+    private void merge(Map<Long, Float> scoreByExhibitionId, Segment segment, float weight, Set<Long> excludedExhibitionIds) {
+        if (segment == null)
+            return;
+        for (int i = 0; i < segment.exhibitionIds.length; i++) {
+            long exhibitionId = segment.exhibitionIds[i];
+            if (!excludedExhibitionIds.contains(exhibitionId))
+                scoreByExhibitionId.merge(exhibitionId, weight * segment.scores[i], Float::sum);
+        }
+    }
+
+    private static void normalize(float[] values) {
+        float max = 0;
+        for (float value : values) {
+            max = Math.max(max, value);
+        }
+        if (max <= 0)
+            return;
+        for (int i = 0; i < values.length; i++) {
+            values[i] /= max;
+        }
+    }
+
+    private static float weight(MemberExhibitionRow row) {
+        return row.hope() == null ? LIKE_WEIGHT : (float) Math.max(row.hope().getHopeRating(), 0);
+    }
+
+    private static String segmentKey(String mbtiType, String artPreferenceType) {
+        return mbtiType + "|" + artPreferenceType;
+    }
+
+    private record Interactions(int[] offsets, int[] itemNos, float[] weights) {
+    }
+
+    private record Segment(long[] exhibitionIds, float[] scores) {
+    }
+}
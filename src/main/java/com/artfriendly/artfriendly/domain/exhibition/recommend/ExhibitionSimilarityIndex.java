@@ -0,0 +1,213 @@
+package com.artfriendly.artfriendly.domain.exhibition.recommend;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.SimilarExhibitionRspDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 전시-전시 유사도 상위 NEIGHBOR_SIZE 개 (좋아요/긍정 희망 사항 co-occurrence 코사인)
+// 회원 -> 전시(CSR), 전시 -> 회원(CSC) 원시 배열로 희소 행렬 곱을 전시 단위로 계산하고, 결과는 전시 상세 응답에 바로 붙일 수 있는 형태로 보관한다.
+@Slf4j
+@Component
+public class ExhibitionSimilarityIndex {
+    public static final int NEIGHBOR_SIZE = 10;
+    private static final float LIKE_WEIGHT = 1.0f;
+    private static final int MAX_MEMBER_ITEM_COUNT = 300; // 너무 많은 전시에 반응한 회원은 유사도 신호가 약하고 계산량만 늘린다.
+    private static final int MIN_CO_OCCURRENCE = 2;
+    private static final float SHRINKAGE = 5.0f; // 함께 반응한 회원 수가 적은 쌍의 점수를 낮춘다.
+
+    private volatile Map<Long, List<SimilarExhibitionRspDto>> similarExhibitions = Map.of();
+
+    public List<SimilarExhibitionRspDto> getSimilarExhibitions(long exhibitionId) {
+        return similarExhibitions.getOrDefault(exhibitionId, List.of());
+    }
+
+    // 계산 결과(또는 저장해 둔 결과)를 응답 형태로 바꿔 교체, 후보에서 빠진(종료된) 전시는 제외
+    public void load(List<ExhibitionSimilarityRow> similarityRows, List<RecommendCandidateRow> candidateRows) {
+        Map<Long, RecommendCandidateRow> candidateById = new HashMap<>(candidateRows.size() * 2);
+        for (RecommendCandidateRow candidateRow : candidateRows) {
+            candidateById.put(candidateRow.exhibitionId(), candidateRow);
+        }
+
+        Map<Long, List<ExhibitionSimilarityRow>> rowsByExhibitionId = new HashMap<>();
+        for (ExhibitionSimilarityRow row : similarityRows) {
+            if (candidateById.containsKey(row.similarExhibitionId()))
+                rowsByExhibitionId.computeIfAbsent(row.exhibitionId(), k -> new ArrayList<>()).add(row);
+        }
+
+        Map<Long, List<SimilarExhibitionRspDto>> newSimilarExhibitions = new HashMap<>(rowsByExhibitionId.size() * 2);
+        for (Map.Entry<Long, List<ExhibitionSimilarityRow>> entry : rowsByExhibitionId.entrySet()) {
+            newSimilarExhibitions.put(entry.getKey(), entry.getValue().stream()
+                    .sorted(Comparator.comparingDouble(ExhibitionSimilarityRow::score).reversed())
+                    .limit(NEIGHBOR_SIZE)
+                    .map(row -> {
+                        RecommendCandidateRow candidateRow = candidateById.get(row.similarExhibitionId());
+                        return new SimilarExhibitionRspDto(candidateRow.exhibitionId(), candidateRow.title(), candidateRow.imageUrl());
+                    })
+                    .toList());
+        }
+        this.similarExhibitions = newSimilarExhibitions;
+    }
+
+    public List<ExhibitionSimilarityRow> compute(List<MemberExhibitionRow> memberExhibitionRows, Set<Long> candidateExhibitionIds) {
+        long startTime = System.currentTimeMillis();
+
+        Map<Long, Integer> itemNoByExhibitionId = new HashMap<>();
+        List<Long> exhibitionIdList = new ArrayList<>();
+        Map<Long, Map<Integer, Float>> weightsByMemberId = new HashMap<>();
+        for (MemberExhibitionRow row : memberExhibitionRows) {
+            float weight = row.hope() == null ? LIKE_WEIGHT : (float) Math.max(row.hope().getHopeRating(), 0);
+            if (weight <= 0)
+                continue;
+            Integer itemNo = itemNoByExhibitionId.get(row.exhibitionId());
+            if (itemNo == null) {
+                itemNo = exhibitionIdList.size();
+                itemNoByExhibitionId.put(row.exhibitionId(), itemNo);
+                exhibitionIdList.add(row.exhibitionId());
+            }
+            // 같은 전시에 좋아요와 희망 사항을 모두 남긴 경우 가중치를 합친다.
+            weightsByMemberId.computeIfAbsent(row.memberId(), k -> new HashMap<>()).merge(itemNo, weight, Float::sum);
+        }
+        int itemCount = exhibitionIdList.size();
+
+        boolean[] candidate = new boolean[itemCount];
+        for (int itemNo = 0; itemNo < itemCount; itemNo++) {
+            candidate[itemNo] = candidateExhibitionIds.contains(exhibitionIdList.get(itemNo));
+        }
+
+        // CSR: 회원 -> (전시, 가중치)
+        List<Map<Integer, Float>> memberWeightList = weightsByMemberId.values().stream()
+                .filter(weights -> weights.size() <= MAX_MEMBER_ITEM_COUNT)
+                .toList();
+        int memberCount = memberWeightList.size();
+        int[] rowOffsets = new int[memberCount + 1];
+        for (int memberNo = 0; memberNo < memberCount; memberNo++) {
+            rowOffsets[memberNo + 1] = rowOffsets[memberNo] + memberWeightList.get(memberNo).size();
+        }
+        int nonZeroCount = rowOffsets[memberCount];
+        int[] rowItemNos = new int[nonZeroCount];
+        float[] rowWeights = new float[nonZeroCount];
+        int[] columnCounts = new int[itemCount + 1];
+        for (int memberNo = 0; memberNo < memberCount; memberNo++) {
+            int position = rowOffsets[memberNo];
+            for (Map.Entry<Integer, Float> entry : memberWeightList.get(memberNo).entrySet()) {
+                rowItemNos[position] = entry.getKey();
+                rowWeights[position] = entry.getValue();
+                columnCounts[entry.getKey() + 1]++;
+                position++;
+            }
+        }
+
+        // CSC: 전시 -> (회원, 가중치), 전시별 벡터 크기
+        int[] columnOffsets = new int[itemCount + 1];
+        for (int itemNo = 0; itemNo < itemCount; itemNo++) {
+            columnOffsets[itemNo + 1] = columnOffsets[itemNo] + columnCounts[itemNo + 1];
+        }
+        int[] columnMemberNos = new int[nonZeroCount];
+        float[] columnWeights = new float[nonZeroCount];
+        float[] norms = new float[itemCount];
+        int[] cursor = Arrays.copyOf(columnOffsets, itemCount);
+        for (int memberNo = 0; memberNo < memberCount; memberNo++) {
+            for (int i = rowOffsets[memberNo]; i < rowOffsets[memberNo + 1]; i++) {
+                int position = cursor[rowItemNos[i]]++;
+                columnMemberNos[position] = memberNo;
+                columnWeights[position] = rowWeights[i];
+                norms[rowItemNos[i]] += rowWeights[i] * rowWeights[i];
+            }
+        }
+        for (int itemNo = 0; itemNo < itemCount; itemNo++) {
+            norms[itemNo] = (float) Math.sqrt(norms[itemNo]);
+        }
+
+        // 전시 i 의 열과 회원 행을 따라가며 다른 전시 j 와의 내적을 누적
+        List<ExhibitionSimilarityRow> similarityRows = new ArrayList<>();
+        float[] dots = new float[itemCount];
+        int[] coCounts = new int[itemCount];
+        int[] touched = new int[itemCount];
+        int[] heapItemNos = new int[NEIGHBOR_SIZE];
+        float[] heapScores = new float[NEIGHBOR_SIZE];
+        for (int itemNo = 0; itemNo < itemCount; itemNo++) {
+            int touchedCount = 0;
+            for (int c = columnOffsets[itemNo]; c < columnOffsets[itemNo + 1]; c++) {
+                int memberNo = columnMemberNos[c];
+                float weight = columnWeights[c];
+                for (int r = rowOffsets[memberNo]; r < rowOffsets[memberNo + 1]; r++) {
+                    int otherItemNo = rowItemNos[r];
+                    if (otherItemNo == itemNo || !candidate[otherItemNo])
+                        continue;
+                    if (coCounts[otherItemNo] == 0)
+                        touched[touchedCount++] = otherItemNo;
+                    coCounts[otherItemNo]++;
+                    dots[otherItemNo] += weight * rowWeights[r];
+                }
+            }
+
+            int heapSize = 0;
+            for (int t = 0; t < touchedCount; t++) {
+                int otherItemNo = touched[t];
+                int coCount = coCounts[otherItemNo];
+                if (coCount >= MIN_CO_OCCURRENCE) {
+                    float score = dots[otherItemNo] / (norms[itemNo] * norms[otherItemNo]) * coCount / (coCount + SHRINKAGE);
+                    if (heapSize < NEIGHBOR_SIZE) {
+                        heapItemNos[heapSize] = otherItemNo;
+                        heapScores[heapSize] = score;
+                        siftUp(heapItemNos, heapScores, heapSize++);
+                    } else if (heapScores[0] < score) {
+                        heapItemNos[0] = otherItemNo;
+                        heapScores[0] = score;
+                        siftDown(heapItemNos, heapScores, heapSize);
+                    }
+                }
+                dots[otherItemNo] = 0;
+                coCounts[otherItemNo] = 0;
+            }
+
+            long exhibitionId = exhibitionIdList.get(itemNo);
+            for (int h = 0; h < heapSize; h++) {
+                similarityRows.add(new ExhibitionSimilarityRow(exhibitionId, exhibitionIdList.get(heapItemNos[h]), heapScores[h]));
+            }
+        }
+
+        log.info("유사 전시 계산 완료 : 전시 {}개, 회원 {}명, 유사 쌍 {}개, {}ms",
+                itemCount, memberCount, similarityRows.size(), System.currentTimeMillis() - startTime);
+        return similarityRows;
+    }
+
+    // 점수가 가장 낮은 이웃이 0번에 오는 최소 힙, 전시 번호와 점수를 같은 위치의 두 배열에 둔다.
+    private static void siftUp(int[] itemNos, float[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index])
+                return;
+            swap(itemNos, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] itemNos, float[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest])
+                smallest = left;
+            if (right < size && scores[right] < scores[smallest])
+                smallest = right;
+            if (smallest == index)
+                return;
+            swap(itemNos, scores, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] itemNos, float[] scores, int i, int j) {
+        int itemNo = itemNos[i];
+        itemNos[i] = itemNos[j];
+        itemNos[j] = itemNo;
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
@@ -0,0 +1,8 @@
+package com.artfriendly.artfriendly.domain.exhibition.recommend;
+
+public record ExhibitionSimilarityRow(
+        long exhibitionId,
+        long similarExhibitionId,
+        double score
+) {
+}
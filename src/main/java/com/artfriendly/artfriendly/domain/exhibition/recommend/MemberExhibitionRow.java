@@ -0,0 +1,14 @@
+package com.artfriendly.artfriendly.domain.exhibition.recommend;
+
+import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionHope;
+
+// 좋아요(hope 가 null) 또는 희망 사항 한 건
+public record MemberExhibitionRow(
+        long memberId,
+        long exhibitionId,
+        ExhibitionHope.Hope hope
+) {
+    public MemberExhibitionRow(long memberId, long exhibitionId) {
+        this(memberId, exhibitionId, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.artfriendly.artfriendly.domain.exhibition.recommend;
+
+// 회원 한 명의 MBTI 와 전시 취향 하나, 취향이 여러 개면 여러 행
+public record MemberSegmentRow(
+        long memberId,
+        String mbtiType,
+        String artPreferenceType
+) {
+}
@@ -0,0 +1,10 @@
+package com.artfriendly.artfriendly.domain.exhibition.recommend;
+
+// 추천 후보가 될 수 있는 진행 중 전시
+public record RecommendCandidateRow(
+        long exhibitionId,
+        String title,
+        String imageUrl,
+        String realmName
+) {
+}
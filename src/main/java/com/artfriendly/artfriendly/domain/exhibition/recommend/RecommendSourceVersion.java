@@ -0,0 +1,10 @@
+package com.artfriendly.artfriendly.domain.exhibition.recommend;
+
+import java.time.LocalDateTime;
+
+// 좋아요/희망 사항 테이블의 행 수와 마지막 변경 시각, 달라졌을 때만 추천 후보를 다시 계산한다.
+public record RecommendSourceVersion(
+        long count,
+        LocalDateTime lastModifiedTime
+) {
+}
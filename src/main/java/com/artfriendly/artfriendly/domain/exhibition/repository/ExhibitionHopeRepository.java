@@ -1,10 +1,17 @@
 package com.artfriendly.artfriendly.domain.exhibition.repository;
 
 import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionHope;
+import com.artfriendly.artfriendly.domain.exhibition.recommend.MemberExhibitionRow;
+import com.artfriendly.artfriendly.domain.exhibition.recommend.RecommendSourceVersion;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ExhibitionHopeRepository extends JpaRepository<ExhibitionHope, Long> {
@@ -14,4 +21,37 @@ public interface ExhibitionHopeRepository extends JpaRepository<ExhibitionHope,
             "WHERE e.id = :exhibitionId " +
             "AND m.id = :memberId")
     Optional<ExhibitionHope> findExhibitionHopeByMemberIdAndExhibitionId(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId);
+
+    // 이미 희망 사항이 있으면 무시, 새로 추가된 경우에만 1 반환
+    // INSERT IGNORE 는 회원/전시가 없는 FK 위반도 0 으로 반환하므로 0 이면 호출하는 쪽에서 존재 여부를 확인한다.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO exhibition_hope (member_id, exhibition_id, hope, create_time, last_modified_time) " +
+            "VALUES (:memberId, :exhibitionId, :hope, :now, :now)",
+            nativeQuery = true)
+    int insertExhibitionHopeIfAbsent(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId, @Param("hope") String hope, @Param("now") LocalDateTime now);
+
+    // 변경/삭제할 희망 사항 행을 배타 잠금(SELECT ... FOR UPDATE)해서 읽는다.
+    // 동시에 들어온 변경/삭제 요청은 잠금에서 기다렸다가 앞선 요청이 남긴 평가를 읽으므로, 같은 평가의 점수를 두 번 빼지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT eh FROM ExhibitionHope eh " +
+            "WHERE eh.member.id = :memberId " +
+            "AND eh.exhibition.id = :exhibitionId")
+    Optional<ExhibitionHope> findExhibitionHopeForUpdate(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId);
+
+    @Modifying
+    @Query(value = "DELETE FROM exhibition_hope WHERE member_id = :memberId AND exhibition_id = :exhibitionId",
+            nativeQuery = true)
+    int deleteByMemberIdAndExhibitionId(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId);
+
+    @Query("SELECT eh.exhibition.id FROM ExhibitionHope eh " +
+            "WHERE eh.member.id = :memberId")
+    List<Long> findExhibitionIdByMemberId(@Param("memberId") long memberId);
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.recommend.MemberExhibitionRow(eh.member.id, eh.exhibition.id, eh.hope) " +
+            "FROM ExhibitionHope eh")
+    List<MemberExhibitionRow> findAllMemberExhibitionRow();
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.recommend.RecommendSourceVersion(COUNT(eh), MAX(eh.lastModifiedTime)) " +
+            "FROM ExhibitionHope eh")
+    RecommendSourceVersion findRecommendSourceVersion();
 }
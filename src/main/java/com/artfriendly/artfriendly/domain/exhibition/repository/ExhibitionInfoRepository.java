@@ -1,7 +1,12 @@
 package com.artfriendly.artfriendly.domain.exhibition.repository;
 
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionInfo;
+import com.artfriendly.artfriendly.domain.exhibition.recommend.RecommendCandidateRow;
+import com.artfriendly.artfriendly.domain.exhibition.search.ExhibitionSearchDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,4 +14,24 @@ import java.util.Optional;
 public interface ExhibitionInfoRepository extends JpaRepository<ExhibitionInfo, Long> {
     Optional<ExhibitionInfo> findExhibitionBySeq(int seq);
     List<ExhibitionInfo> findExhibitionInfoByProgressStatus(String progressStatus);
+
+    // 검색 색인 생성용, 엔티티 대신 필요한 컬럼만 조회
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.search.ExhibitionSearchDocument(" +
+            "e.id, ei.title, ei.place, ei.realmName, ei.placeAddr, e.temperature) " +
+            "FROM ExhibitionInfo ei " +
+            "JOIN ei.exhibition e")
+    List<ExhibitionSearchDocument> findAllExhibitionSearchDocument();
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.recommend.RecommendCandidateRow(e.id, ei.title, ei.imageUrl, ei.realmName) " +
+            "FROM ExhibitionInfo ei " +
+            "JOIN ei.exhibition e " +
+            "WHERE ei.progressStatus = :progressStatus")
+    List<RecommendCandidateRow> findRecommendCandidateRowByProgressStatus(@Param("progressStatus") String progressStatus);
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto(" +
+            "e.id, ei.title, ei.imageUrl, e.temperature, ei.startDate, ei.endDate, ei.area, false) " +
+            "FROM ExhibitionInfo ei " +
+            "JOIN ei.exhibition e " +
+            "WHERE ei.progressStatus = :progressStatus")
+    List<ExhibitionRspDto> findExhibitionRspDtoByProgressStatus(@Param("progressStatus") String progressStatus);
 }
@@ -1,10 +1,16 @@
 package com.artfriendly.artfriendly.domain.exhibition.repository;
 
+import com.artfriendly.artfriendly.domain.exhibition.cache.LikedExhibitionRow;
 import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionLike;
+import com.artfriendly.artfriendly.domain.exhibition.recommend.MemberExhibitionRow;
+import com.artfriendly.artfriendly.domain.exhibition.recommend.RecommendSourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ExhibitionLikeRepository extends JpaRepository<ExhibitionLike, Long> {
@@ -14,4 +20,52 @@ public interface ExhibitionLikeRepository extends JpaRepository<ExhibitionLike,
             "WHERE e.id = :exhibitionId " +
             "AND m.id = :memberId")
     Optional<ExhibitionLike> findExhibitionLikeByMemberIdAndExhibitionId(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId);
+
+    // 이미 좋아요가 있으면 무시, 새로 추가된 경우에만 1 반환
+    // INSERT IGNORE 는 회원/전시가 없는 FK 위반도 0 으로 반환하므로 0 이면 호출하는 쪽에서 존재 여부를 확인한다.
+    // 시간은 JPA Auditing 과 같은 애플리케이션 시계로 넣는다.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO exhibition_like (member_id, exhibition_id, create_time, last_modified_time) " +
+            "VALUES (:memberId, :exhibitionId, :now, :now)",
+            nativeQuery = true)
+    int insertExhibitionLikeIfAbsent(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId, @Param("now") LocalDateTime now);
+
+    // 삭제할 좋아요 행을 배타 잠금하면서 좋아요 시점의 인기 점수 증가분(TrendingScore.of)을 전시에서 뺀다.
+    // 좋아요가 없으면 0 반환, 동시에 들어온 삭제 요청은 행 잠금에서 기다렸다가 0 을 받는다.
+    @Modifying
+    @Query(value = "UPDATE exhibition_like el JOIN exhibition e ON e.id = el.exhibition_id " +
+            "SET e.trending_score = e.trending_score - IFNULL(:weight * POW(2, TIMESTAMPDIFF(SECOND, :epoch, el.create_time) / :halfLifeSeconds), 0), " +
+            "el.last_modified_time = el.last_modified_time " +
+            "WHERE el.member_id = :memberId AND el.exhibition_id = :exhibitionId",
+            nativeQuery = true)
+    int subtractTrendingScoreForDelete(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId,
+                                       @Param("weight") double weight, @Param("epoch") LocalDateTime epoch, @Param("halfLifeSeconds") double halfLifeSeconds);
+
+    @Modifying
+    @Query(value = "DELETE FROM exhibition_like WHERE member_id = :memberId AND exhibition_id = :exhibitionId",
+            nativeQuery = true)
+    int deleteByMemberIdAndExhibitionId(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId);
+
+    @Query("SELECT el.exhibition.id FROM ExhibitionLike el " +
+            "WHERE el.member.id = :memberId " +
+            "AND el.exhibition.id IN :exhibitionIds")
+    List<Long> findExhibitionIdByMemberIdAndExhibitionIdIn(@Param("memberId") long memberId, @Param("exhibitionIds") List<Long> exhibitionIds);
+
+    @Query("SELECT el.exhibition.id FROM ExhibitionLike el " +
+            "WHERE el.member.id = :memberId")
+    List<Long> findExhibitionIdByMemberId(@Param("memberId") long memberId);
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.cache.LikedExhibitionRow(el.id, el.exhibition.id) " +
+            "FROM ExhibitionLike el " +
+            "WHERE el.member.id = :memberId " +
+            "ORDER BY el.id DESC")
+    List<LikedExhibitionRow> findLikedExhibitionRowByMemberId(@Param("memberId") long memberId);
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.recommend.MemberExhibitionRow(el.member.id, el.exhibition.id) " +
+            "FROM ExhibitionLike el")
+    List<MemberExhibitionRow> findAllMemberExhibitionRow();
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.recommend.RecommendSourceVersion(COUNT(el), MAX(el.lastModifiedTime)) " +
+            "FROM ExhibitionLike el")
+    RecommendSourceVersion findRecommendSourceVersion();
 }
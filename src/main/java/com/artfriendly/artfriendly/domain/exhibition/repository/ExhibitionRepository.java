@@ -4,6 +4,7 @@ import com.artfriendly.artfriendly.domain.exhibition.entity.Exhibition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -54,6 +55,26 @@ public interface ExhibitionRepository extends JpaRepository<Exhibition, Long> {
                                                             @Param("areas") List<String> areas,
                                                             @Param("now") LocalDate now);
 
+    @Query(value = "SELECT e.* FROM exhibition e " +
+            "INNER JOIN exhibition_info ei ON ei.exhibition_id = e.id " +
+            "WHERE ei.progress_status = :progressStatus AND " +
+            "ei.area IN :areas " +
+            "ORDER BY e.trending_score DESC, e.temperature DESC, " +
+            "CASE " +
+            "WHEN ei.title REGEXP '^[가-힣]' THEN 0 " +
+            "WHEN ei.title REGEXP '^[A-Za-z]' THEN 1 " +
+            "ELSE 2 " +
+            "END, " +
+            "ei.title ASC",
+            countQuery = "SELECT COUNT(*) FROM exhibition e " +
+                    "INNER JOIN exhibition_info ei ON ei.exhibition_id = e.id " +
+                    "WHERE ei.progress_status = :progressStatus AND " +
+                    "ei.area IN :areas",
+            nativeQuery = true)
+    Page<Exhibition> findExhibitionByOrderByTrendingScoreDesc(Pageable pageable,
+                                                              @Param("progressStatus") String progressStatus,
+                                                              @Param("areas") List<String> areas);
+
     @Query(value = "SELECT e.* FROM exhibition e  " +
             "INNER JOIN exhibition_info ei ON ei.exhibition_id = e.id " +
             "WHERE ei.progress_status = :progressStatus " +
@@ -62,17 +83,22 @@ public interface ExhibitionRepository extends JpaRepository<Exhibition, Long> {
              nativeQuery = true)
     List<Exhibition> findTop10ByTemperature(@Param("progressStatus") String progressStatus, @Param("now") LocalDate now);
 
-    @Query(value = "SELECT e.* FROM exhibition e " +
+    @Query(value = "SELECT e.* FROM exhibition e  " +
             "INNER JOIN exhibition_info ei ON ei.exhibition_id = e.id " +
             "WHERE ei.progress_status = :progressStatus " +
-            "ORDER BY ABS(DATEDIFF(ei.end_date, :now)) ASC, e.temperature DESC " +
-            "LIMIT 3",
+            "ORDER BY e.trending_score DESC, e.temperature DESC " +
+            "LIMIT 10",
+            nativeQuery = true)
+    List<Exhibition> findTop10ByTrendingScore(@Param("progressStatus") String progressStatus);
+
+    // 읽고 쓰지 않고 한 문장으로 더해 동시 요청에도 유실되지 않도록 한다.
+    @Modifying
+    @Query(value = "UPDATE exhibition SET trending_score = trending_score + :delta WHERE id = :exhibitionId",
             nativeQuery = true)
-    List<Exhibition> findTop3ByEndDate(@Param("progressStatus") String progressStatus, @Param("now") LocalDate now);
+    void addTrendingScore(@Param("exhibitionId") long exhibitionId, @Param("delta") double delta);
 
-    @Query(value = "SELECT e FROM  Exhibition e " +
-            "JOIN e.exhibitionLikeList el " +
-            "WHERE el.member.id = :memberId " +
-            "ORDER BY el.lastModifiedTime DESC ")
-    Page<Exhibition> findExhibitionByMemberIdOrderByLastModifiedTime(Pageable pageable, @Param("memberId") long memberId);
+    @Query("SELECT e FROM Exhibition e " +
+            "JOIN FETCH e.exhibitionInfo " +
+            "WHERE e.id IN :exhibitionIds")
+    List<Exhibition> findExhibitionWithInfoByIdIn(@Param("exhibitionIds") List<Long> exhibitionIds);
 }
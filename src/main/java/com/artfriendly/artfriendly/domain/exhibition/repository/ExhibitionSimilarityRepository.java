@@ -0,0 +1,20 @@
+package com.artfriendly.artfriendly.domain.exhibition.repository;
+
+import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionSimilarity;
+import com.artfriendly.artfriendly.domain.exhibition.recommend.ExhibitionSimilarityRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ExhibitionSimilarityRepository extends JpaRepository<ExhibitionSimilarity, Long> {
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.recommend.ExhibitionSimilarityRow(" +
+            "es.exhibitionId, es.similarExhibitionId, es.score) " +
+            "FROM ExhibitionSimilarity es")
+    List<ExhibitionSimilarityRow> findAllExhibitionSimilarityRow();
+
+    @Modifying
+    @Query(value = "DELETE FROM exhibition_similarity", nativeQuery = true)
+    void deleteAllExhibitionSimilarity();
+}
@@ -2,16 +2,15 @@ package com.artfriendly.artfriendly.domain.exhibition.repository;
 
 import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
-
 public interface ExhibitionViewRepository extends JpaRepository<ExhibitionView, Long> {
-    @Query("SELECT ev FROM ExhibitionView ev " +
-            "JOIN FETCH ev.member m " +
-            "JOIN FETCH ev.exhibition e " +
-            "WHERE e.id = :exhibitionId " +
-            "AND m.id = :memberId")
-    Optional<ExhibitionView> findExhibitionViewByMemberIdAndExhibitionId(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId);
+    // 이미 조회 기록이 있으면 무시, 처음 조회한 경우에만 1 반환
+    // INSERT IGNORE 는 회원/전시가 없는 FK 위반도 0 으로 반환하므로 0 이면 호출하는 쪽에서 존재 여부를 확인한다.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO exhibition_view (member_id, exhibition_id) VALUES (:memberId, :exhibitionId)",
+            nativeQuery = true)
+    int insertExhibitionViewIfAbsent(@Param("memberId") long memberId, @Param("exhibitionId") long exhibitionId);
 }
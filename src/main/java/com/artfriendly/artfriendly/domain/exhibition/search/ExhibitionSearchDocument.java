@@ -0,0 +1,23 @@
+package com.artfriendly.artfriendly.domain.exhibition.search;
+
+import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionInfo;
+
+public record ExhibitionSearchDocument(
+        long exhibitionId,
+        String title,
+        String place,
+        String realmName,
+        String placeAddr,
+        Double temperature
+) {
+    public static ExhibitionSearchDocument of(long exhibitionId, ExhibitionInfo exhibitionInfo, Double temperature) {
+        return new ExhibitionSearchDocument(
+                exhibitionId,
+                exhibitionInfo.getTitle(),
+                exhibitionInfo.getPlace(),
+                exhibitionInfo.getRealmName(),
+                exhibitionInfo.getPlaceAddr(),
+                temperature
+        );
+    }
+}
@@ -0,0 +1,301 @@
+package com.artfriendly.artfriendly.domain.exhibition.search;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSuggestRspDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 전시 제목, 장소, 분야, 주소에 대한 메모리 역색인
+// 문서 번호(docNo)는 추가될 때마다 새로 발급하고, 수정/삭제된 문서는 tombstone 처리 후 일정 비율이 넘으면 재구성한다.
+// 본문은 2-gram 과 1-gram 으로 색인하고, 검색어는 2-gram(한 글자 단어는 1-gram)으로 찾는다.
+@Slf4j
+@Component
+public class ExhibitionSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int PLACE_WEIGHT = 2;
+    private static final int ETC_WEIGHT = 1;
+    private static final double MIN_COVERAGE = 0.6; // 검색어 n-gram 중 최소 일치 비율
+    private static final double TEMPERATURE_WEIGHT = 0.2;
+    private static final int MAX_SEARCH_RESULT_SIZE = 500;
+    private static final int MAX_PREFIX_KEY_LENGTH = 16;
+    private static final int MAX_PREFIX_WORD_COUNT = 3;
+    private static final int MAX_SUGGEST_CANDIDATE_SIZE = 500;
+    private static final int MIN_COMPACT_DELETED_COUNT = 1000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ExhibitionSearchDocument[] documents = new ExhibitionSearchDocument[1024];
+    private double[] temperatures = new double[1024];
+    private BitSet deleted = new BitSet();
+    private int documentCount = 0;
+    private int deletedCount = 0;
+    private Map<Long, Integer> docNoByExhibitionId = new HashMap<>();
+    // posting 값은 (docNo << 2) | 필드 가중치
+    private Map<String, IntList> postings = new HashMap<>();
+    private TreeMap<String, IntList> prefixes = new TreeMap<>();
+
+    public void rebuild(List<ExhibitionSearchDocument> documentList) {
+        lock.writeLock().lock();
+        try {
+            clear(Math.max(documentList.size(), 1024));
+            for (ExhibitionSearchDocument document : documentList) {
+                addDocument(document);
+            }
+            log.info("전시 검색 색인 생성 완료 : {}건, 토큰 {}개", documentList.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(ExhibitionSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer docNo = docNoByExhibitionId.get(document.exhibitionId());
+            if (docNo != null) {
+                deleted.set(docNo);
+                deletedCount++;
+            }
+            addDocument(document);
+
+            if (deletedCount > MIN_COMPACT_DELETED_COUNT && deletedCount * 4 > documentCount)
+                compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB 트랜잭션 안에서 호출하면 커밋된 뒤에 반영해, 롤백된 변경이 색인에 남지 않게 한다.
+    public void upsertAfterCommit(ExhibitionSearchDocument document) {
+        afterCommit(() -> upsert(document));
+    }
+
+    public void updateTemperatureAfterCommit(long exhibitionId, double temperature) {
+        afterCommit(() -> updateTemperature(exhibitionId, temperature));
+    }
+
+    public void updateTemperature(long exhibitionId, double temperature) {
+        lock.writeLock().lock();
+        try {
+            Integer docNo = docNoByExhibitionId.get(exhibitionId);
+            if (docNo != null)
+                temperatures[docNo] = temperature;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 온도를 반영한 점수 순으로 전시 id 반환
+    public List<Long> search(String keyword) {
+        Set<String> queryGrams = HangulTokenizer.ngrams(keyword);
+        if (queryGrams.isEmpty())
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            float[] scores = new float[documentCount];
+            int[] matchedCounts = new int[documentCount];
+            int[] lastMatchedGram = new int[documentCount];
+            IntList touched = new IntList(64);
+
+            int gramIndex = 0;
+            for (String gram : queryGrams) {
+                gramIndex++;
+                IntList posting = postings.get(gram);
+                if (posting == null)
+                    continue;
+
+                for (int i = 0; i < posting.size; i++) {
+                    int value = posting.values[i];
+                    int docNo = value >>> 2;
+                    if (deleted.get(docNo))
+                        continue;
+
+                    if (lastMatchedGram[docNo] == 0)
+                        touched.add(docNo);
+                    if (lastMatchedGram[docNo] != gramIndex) {
+                        lastMatchedGram[docNo] = gramIndex;
+                        matchedCounts[docNo]++;
+                    }
+                    scores[docNo] += value & 3;
+                }
+            }
+
+            int queryGramCount = queryGrams.size();
+            List<ScoredDocument> scoredDocuments = new ArrayList<>();
+            for (int i = 0; i < touched.size; i++) {
+                int docNo = touched.values[i];
+                if ((double) matchedCounts[docNo] / queryGramCount < MIN_COVERAGE)
+                    continue;
+
+                double textScore = (double) scores[docNo] / queryGramCount;
+                double temperatureBoost = 1 + TEMPERATURE_WEIGHT * Math.log1p(Math.max(temperatures[docNo], 0));
+                scoredDocuments.add(new ScoredDocument(documents[docNo].exhibitionId(), textScore * temperatureBoost));
+            }
+
+            scoredDocuments.sort(Comparator.comparingDouble(ScoredDocument::score).reversed());
+
+            int resultSize = Math.min(scoredDocuments.size(), MAX_SEARCH_RESULT_SIZE);
+            List<Long> exhibitionIds = new ArrayList<>(resultSize);
+            for (int i = 0; i < resultSize; i++) {
+                exhibitionIds.add(scoredDocuments.get(i).exhibitionId());
+            }
+            return exhibitionIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 제목 접두사(자모, 초성) 자동완성, 온도 순 정렬
+    public List<ExhibitionSuggestRspDto> autocomplete(String prefix, int limit) {
+        String key = toPrefixKey(prefix);
+        if (key.isEmpty())
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            Set<Integer> candidateDocNos = new LinkedHashSet<>();
+            SortedMap<String, IntList> matches = prefixes.subMap(key, key + Character.MAX_VALUE);
+            for (IntList docNos : matches.values()) {
+                for (int i = 0; i < docNos.size && candidateDocNos.size() < MAX_SUGGEST_CANDIDATE_SIZE; i++) {
+                    if (!deleted.get(docNos.values[i]))
+                        candidateDocNos.add(docNos.values[i]);
+                }
+                if (candidateDocNos.size() >= MAX_SUGGEST_CANDIDATE_SIZE)
+                    break;
+            }
+
+            return candidateDocNos.stream()
+                    .sorted(Comparator.comparingDouble((Integer docNo) -> temperatures[docNo]).reversed())
+                    .limit(limit)
+                    .map(docNo -> new ExhibitionSuggestRspDto(documents[docNo].exhibitionId(), documents[docNo].title()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private void addDocument(ExhibitionSearchDocument document) {
+        int docNo = documentCount++;
+        ensureCapacity(documentCount);
+
+        documents[docNo] = document;
+        temperatures[docNo] = document.temperature() == null ? 0.0 : document.temperature();
+        docNoByExhibitionId.put(document.exhibitionId(), docNo);
+
+        addPostings(docNo, document.title(), TITLE_WEIGHT);
+        addPostings(docNo, document.place(), PLACE_WEIGHT);
+        addPostings(docNo, document.realmName(), ETC_WEIGHT);
+        addPostings(docNo, document.placeAddr(), ETC_WEIGHT);
+        addPrefixes(docNo, document.title());
+    }
+
+    private void addPostings(int docNo, String text, int weight) {
+        for (String gram : HangulTokenizer.indexGrams(text)) {
+            postings.computeIfAbsent(gram, k -> new IntList(4)).add((docNo << 2) | weight);
+        }
+    }
+
+    // 제목 중간 단어부터 입력해도 검색되도록 앞쪽 단어 몇 개를 시작점으로 키를 만든다.
+    private void addPrefixes(int docNo, String title) {
+        List<String> words = HangulTokenizer.splitWords(title);
+        Set<String> keys = new HashSet<>();
+        for (int start = 0; start < Math.min(words.size(), MAX_PREFIX_WORD_COUNT); start++) {
+            String text = String.join("", words.subList(start, words.size()));
+            keys.add(truncate(HangulTokenizer.toJamo(text)));
+            keys.add(truncate(HangulTokenizer.toChoseong(text)));
+        }
+        for (String key : keys) {
+            prefixes.computeIfAbsent(key, k -> new IntList(2)).add(docNo);
+        }
+    }
+
+    private void compact() {
+        List<ExhibitionSearchDocument> liveDocuments = new ArrayList<>(documentCount - deletedCount);
+        for (int docNo = 0; docNo < documentCount; docNo++) {
+            if (deleted.get(docNo))
+                continue;
+            ExhibitionSearchDocument document = documents[docNo];
+            liveDocuments.add(new ExhibitionSearchDocument(
+                    document.exhibitionId(), document.title(), document.place(),
+                    document.realmName(), document.placeAddr(), temperatures[docNo]));
+        }
+
+        clear(Math.max(liveDocuments.size(), 1024));
+        for (ExhibitionSearchDocument document : liveDocuments) {
+            addDocument(document);
+        }
+    }
+
+    private void clear(int capacity) {
+        documents = new ExhibitionSearchDocument[capacity];
+        temperatures = new double[capacity];
+        deleted = new BitSet(capacity);
+        documentCount = 0;
+        deletedCount = 0;
+        docNoByExhibitionId = new HashMap<>(capacity * 2);
+        postings = new HashMap<>();
+        prefixes = new TreeMap<>();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= documents.length)
+            return;
+        int newCapacity = Math.max(capacity, documents.length * 2);
+        documents = Arrays.copyOf(documents, newCapacity);
+        temperatures = Arrays.copyOf(temperatures, newCapacity);
+    }
+
+    private static String toPrefixKey(String prefix) {
+        if (prefix == null)
+            return "";
+        return truncate(HangulTokenizer.toJamo(String.join("", HangulTokenizer.splitWords(prefix))));
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_PREFIX_KEY_LENGTH ? key.substring(0, MAX_PREFIX_KEY_LENGTH) : key;
+    }
+
+    private record ScoredDocument(long exhibitionId, double score) {
+    }
+
+    private static final class IntList {
+        private int[] values;
+        private int size;
+
+        private IntList(int initialCapacity) {
+            this.values = new int[initialCapacity];
+        }
+
+        private void add(int value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+}
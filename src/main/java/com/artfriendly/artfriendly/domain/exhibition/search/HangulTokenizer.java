@@ -0,0 +1,129 @@
+package com.artfriendly.artfriendly.domain.exhibition.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HangulTokenizer {
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 입력 도중의 글자("화" -> "호")도 접두사로 잡히도록 겹모음은 풀어서 저장
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 겹받침도 마찬가지로 풀어서 저장 ("값" -> "ㄱㅏㅂㅅ")
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 사용자가 낱자로 입력한 겹자모
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_DECOMPOSED = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    // 소문자로 바꾸고 글자, 숫자를 제외한 문자를 공백으로 치환한 뒤 단어 단위로 분리
+    public static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null)
+            return words;
+
+        StringBuilder word = new StringBuilder();
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerText.length(); i++) {
+            char c = lowerText.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty())
+            words.add(word.toString());
+        return words;
+    }
+
+    // 색인용 : 단어별 2-gram 과 1-gram, 한 글자 검색어("꽃")도 "들꽃전", "꽃의 정원" 에서 찾을 수 있게 한다.
+    public static Set<String> indexGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : splitWords(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i < word.length() - 1)
+                    grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색어용 : 단어별 2-gram, 한 글자 단어는 1-gram 으로 찾는다.
+    public static Set<String> ngrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : splitWords(text)) {
+            if (word.length() == 1) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i < word.length() - 1; i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    public static String toJamo(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c)) {
+                int index = c - HANGUL_BASE;
+                jamo.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                jamo.append(JUNGSEONG[(index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT]);
+                jamo.append(JONGSEONG[index % JONGSEONG_COUNT]);
+            } else {
+                int compoundIndex = COMPOUND_JAMO.indexOf(c);
+                if (compoundIndex >= 0)
+                    jamo.append(COMPOUND_JAMO_DECOMPOSED[compoundIndex]);
+                else
+                    jamo.append(c);
+            }
+        }
+        return jamo.toString();
+    }
+
+    public static String toChoseong(String text) {
+        StringBuilder choseong = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c))
+                choseong.append(CHOSEONG[(c - HANGUL_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            else
+                choseong.append(c);
+        }
+        return choseong.toString();
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_END;
+    }
+}
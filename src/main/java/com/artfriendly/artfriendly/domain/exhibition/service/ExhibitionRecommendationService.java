@@ -0,0 +1,17 @@
+package com.artfriendly.artfriendly.domain.exhibition.service;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+
+import java.util.List;
+
+public interface ExhibitionRecommendationService {
+    List<ExhibitionRspDto> getRecommendedExhibitionRspDtoList(long memberId, int size);
+
+    void refreshRecommendations();
+
+    void refreshRecommendationsIfChanged();
+
+    void refreshSimilarExhibitions();
+
+    void loadSimilarExhibitions();
+}
@@ -0,0 +1,141 @@
+package com.artfriendly.artfriendly.domain.exhibition.service;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.entity.Exhibition;
+import com.artfriendly.artfriendly.domain.exhibition.mapper.ExhibitionMapper;
+import com.artfriendly.artfriendly.domain.exhibition.recommend.*;
+import com.artfriendly.artfriendly.domain.exhibition.repository.*;
+import com.artfriendly.artfriendly.domain.member.repository.MemberRepository;
+import com.artfriendly.artfriendly.global.exception.common.BusinessException;
+import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Primary
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ExhibitionRecommendationServiceImpl implements ExhibitionRecommendationService {
+    // 취향, MBTI 변경은 버전으로 감지하지 않으므로 이 시간이 지나면 변경이 없어도 다시 계산
+    private static final Duration MAX_REFRESH_INTERVAL = Duration.ofHours(1);
+
+    private static final int SIMILARITY_INSERT_BATCH_SIZE = 1000;
+
+    private final ExhibitionRecommender exhibitionRecommender;
+    private final ExhibitionSimilarityIndex exhibitionSimilarityIndex;
+    private final ExhibitionSimilarityRepository exhibitionSimilarityRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberRepository memberRepository;
+    private final ExhibitionRepository exhibitionRepository;
+    private final ExhibitionInfoRepository exhibitionInfoRepository;
+    private final ExhibitionLikeRepository exhibitionLikeRepository;
+    private final ExhibitionHopeRepository exhibitionHopeRepository;
+    private final ExhibitionMapper exhibitionMapper;
+
+    private volatile List<RecommendSourceVersion> lastSourceVersions = List.of();
+    private volatile LocalDateTime lastRefreshTime = LocalDateTime.MIN;
+
+    // 이미 좋아요나 희망 사항을 남긴 전시는 제외하고 추천
+    @Override
+    public List<ExhibitionRspDto> getRecommendedExhibitionRspDtoList(long memberId, int size) {
+        List<MemberSegmentRow> memberSegmentRowList = memberRepository.findMemberSegmentRowByMemberId(memberId);
+        if (memberSegmentRowList.isEmpty())
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+
+        String mbtiType = memberSegmentRowList.get(0).mbtiType();
+        List<String> artPreferenceTypeList = memberSegmentRowList.stream()
+                .map(MemberSegmentRow::artPreferenceType)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Set<Long> excludedExhibitionIds = new HashSet<>(exhibitionLikeRepository.findExhibitionIdByMemberId(memberId));
+        excludedExhibitionIds.addAll(exhibitionHopeRepository.findExhibitionIdByMemberId(memberId));
+
+        List<Long> exhibitionIds = exhibitionRecommender.recommend(mbtiType, artPreferenceTypeList, excludedExhibitionIds, size);
+        if (exhibitionIds.isEmpty())
+            return List.of();
+
+        // IN 조회는 순서를 보장하지 않으므로 추천 점수 순으로 다시 정렬
+        Map<Long, Integer> orderMap = new HashMap<>();
+        for (int i = 0; i < exhibitionIds.size(); i++) {
+            orderMap.put(exhibitionIds.get(i), i);
+        }
+        List<Exhibition> exhibitionList = new ArrayList<>(exhibitionRepository.findExhibitionWithInfoByIdIn(exhibitionIds));
+        exhibitionList.sort(Comparator.comparing(exhibition -> orderMap.get(exhibition.getId())));
+
+        return exhibitionMapper.exhibitionsToExhibitionRspDtos(exhibitionList, Set.of());
+    }
+
+    @Override
+    public void refreshRecommendations() {
+        List<RecommendSourceVersion> sourceVersions = findSourceVersions();
+
+        List<MemberExhibitionRow> memberExhibitionRowList = new ArrayList<>(exhibitionLikeRepository.findAllMemberExhibitionRow());
+        memberExhibitionRowList.addAll(exhibitionHopeRepository.findAllMemberExhibitionRow());
+
+        exhibitionRecommender.rebuild(
+                memberRepository.findAllMemberSegmentRow(),
+                memberExhibitionRowList,
+                exhibitionInfoRepository.findRecommendCandidateRowByProgressStatus("inProgress"));
+
+        lastSourceVersions = sourceVersions;
+        lastRefreshTime = LocalDateTime.now();
+    }
+
+    // 진행 중인 전시만 이웃 후보로 두고 계산, 결과는 테이블을 통째로 교체한 뒤 메모리 색인에 반영
+    @Override
+    @Transactional
+    public void refreshSimilarExhibitions() {
+        List<MemberExhibitionRow> memberExhibitionRowList = new ArrayList<>(exhibitionLikeRepository.findAllMemberExhibitionRow());
+        memberExhibitionRowList.addAll(exhibitionHopeRepository.findAllMemberExhibitionRow());
+        List<RecommendCandidateRow> candidateRowList = exhibitionInfoRepository.findRecommendCandidateRowByProgressStatus("inProgress");
+        Set<Long> candidateExhibitionIds = new HashSet<>();
+        for (RecommendCandidateRow candidateRow : candidateRowList) {
+            candidateExhibitionIds.add(candidateRow.exhibitionId());
+        }
+
+        List<ExhibitionSimilarityRow> similarityRowList = exhibitionSimilarityIndex.compute(memberExhibitionRowList, candidateExhibitionIds);
+
+        exhibitionSimilarityRepository.deleteAllExhibitionSimilarity();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO exhibition_similarity (exhibition_id, similar_exhibition_id, score) VALUES (?, ?, ?)",
+                similarityRowList, SIMILARITY_INSERT_BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setLong(1, row.exhibitionId());
+                    ps.setLong(2, row.similarExhibitionId());
+                    ps.setDouble(3, row.score());
+                });
+
+        exhibitionSimilarityIndex.load(similarityRowList, candidateRowList);
+    }
+
+    // 재시작 시에는 저장해 둔 결과를 그대로 불러오고, 저장된 결과가 없을 때만 계산
+    @Override
+    @Transactional
+    public void loadSimilarExhibitions() {
+        List<ExhibitionSimilarityRow> similarityRowList = exhibitionSimilarityRepository.findAllExhibitionSimilarityRow();
+        if (similarityRowList.isEmpty()) {
+            refreshSimilarExhibitions();
+            return;
+        }
+        exhibitionSimilarityIndex.load(similarityRowList, exhibitionInfoRepository.findRecommendCandidateRowByProgressStatus("inProgress"));
+    }
+
+    @Override
+    public void refreshRecommendationsIfChanged() {
+        boolean expired = lastRefreshTime.plus(MAX_REFRESH_INTERVAL).isBefore(LocalDateTime.now());
+        if (expired || !findSourceVersions().equals(lastSourceVersions))
+            refreshRecommendations();
+    }
+
+    private List<RecommendSourceVersion> findSourceVersions() {
+        return List.of(exhibitionLikeRepository.findRecommendSourceVersion(), exhibitionHopeRepository.findRecommendSourceVersion());
+    }
+}
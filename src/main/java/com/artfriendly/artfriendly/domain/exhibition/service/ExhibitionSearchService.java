@@ -0,0 +1,15 @@
+package com.artfriendly.artfriendly.domain.exhibition.service;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSuggestRspDto;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+public interface ExhibitionSearchService {
+    Page<ExhibitionRspDto> searchExhibitionPageRspDto(long memberId, String keyword, int page);
+
+    List<ExhibitionSuggestRspDto> getExhibitionSuggestRspDtoList(String keyword);
+
+    void rebuildSearchIndex();
+}
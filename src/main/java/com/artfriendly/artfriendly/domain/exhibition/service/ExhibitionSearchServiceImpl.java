@@ -0,0 +1,80 @@
+package com.artfriendly.artfriendly.domain.exhibition.service;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSuggestRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.entity.Exhibition;
+import com.artfriendly.artfriendly.domain.exhibition.mapper.ExhibitionMapper;
+import com.artfriendly.artfriendly.domain.exhibition.repository.ExhibitionInfoRepository;
+import com.artfriendly.artfriendly.domain.exhibition.repository.ExhibitionLikeRepository;
+import com.artfriendly.artfriendly.domain.exhibition.repository.ExhibitionRepository;
+import com.artfriendly.artfriendly.domain.exhibition.search.ExhibitionSearchIndex;
+import com.artfriendly.artfriendly.domain.member.service.MemberService;
+import com.artfriendly.artfriendly.global.exception.common.BusinessException;
+import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Primary
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ExhibitionSearchServiceImpl implements ExhibitionSearchService {
+    private static final int PAGE_SIZE = 8;
+    private static final int SUGGEST_SIZE = 10;
+
+    private final ExhibitionSearchIndex exhibitionSearchIndex;
+    private final MemberService memberService;
+    private final ExhibitionRepository exhibitionRepository;
+    private final ExhibitionInfoRepository exhibitionInfoRepository;
+    private final ExhibitionLikeRepository exhibitionLikeRepository;
+    private final ExhibitionMapper exhibitionMapper;
+
+    @Override
+    public Page<ExhibitionRspDto> searchExhibitionPageRspDto(long memberId, String keyword, int page) {
+        if (keyword == null || keyword.isBlank())
+            throw new BusinessException(ErrorCode.SEARCH_KEYWORD_EMPTY);
+        memberService.findById(memberId);
+
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        List<Long> exhibitionIds = exhibitionSearchIndex.search(keyword);
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), exhibitionIds.size());
+        int toIndex = Math.min(fromIndex + PAGE_SIZE, exhibitionIds.size());
+        List<Long> pageExhibitionIds = exhibitionIds.subList(fromIndex, toIndex);
+        if (pageExhibitionIds.isEmpty())
+            return new PageImpl<>(List.of(), pageable, exhibitionIds.size());
+
+        // IN 조회는 순서를 보장하지 않으므로 검색 점수 순으로 다시 정렬
+        Map<Long, Integer> orderMap = new HashMap<>();
+        for (int i = 0; i < pageExhibitionIds.size(); i++) {
+            orderMap.put(pageExhibitionIds.get(i), i);
+        }
+        List<Exhibition> exhibitionList = new ArrayList<>(exhibitionRepository.findExhibitionWithInfoByIdIn(pageExhibitionIds));
+        exhibitionList.sort(Comparator.comparing(exhibition -> orderMap.get(exhibition.getId())));
+
+        Set<Long> likedExhibitionIds = new HashSet<>(exhibitionLikeRepository.findExhibitionIdByMemberIdAndExhibitionIdIn(memberId, pageExhibitionIds));
+        List<ExhibitionRspDto> exhibitionRspDtoList = exhibitionMapper.exhibitionsToExhibitionRspDtos(exhibitionList, likedExhibitionIds);
+
+        return new PageImpl<>(exhibitionRspDtoList, pageable, exhibitionIds.size());
+    }
+
+    @Override
+    public List<ExhibitionSuggestRspDto> getExhibitionSuggestRspDtoList(String keyword) {
+        if (keyword == null || keyword.isBlank())
+            return List.of();
+        return exhibitionSearchIndex.autocomplete(keyword, SUGGEST_SIZE);
+    }
+
+    @Override
+    public void rebuildSearchIndex() {
+        exhibitionSearchIndex.rebuild(exhibitionInfoRepository.findAllExhibitionSearchDocument());
+    }
+}
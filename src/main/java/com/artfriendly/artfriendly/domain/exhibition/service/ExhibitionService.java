@@ -3,6 +3,7 @@ package com.artfriendly.artfriendly.domain.exhibition.service;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionDetailsRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRankRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSliceRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.entity.Exhibition;
 import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionInfo;
 import org.springframework.data.domain.Page;
@@ -21,6 +22,8 @@ public interface ExhibitionService {
 
     Page<ExhibitionRspDto> getInterestExhibitionPageRspDto(long memberId, int page);
 
+    ExhibitionSliceRspDto getInterestExhibitionSliceRspDto(long memberId, Long cursor);
+
     Exhibition findExhibitionById(long exhibitionId);
 
     void addExhibitionLike(long memberId, long exhibitionId);
@@ -45,10 +48,14 @@ public interface ExhibitionService {
 
     List<ExhibitionRspDto> getTop3ExhibitionsByEndingDate(long memberId);
 
-    List<ExhibitionRankRspDto> getTop10PopularExhibitionRankRspDto();
+    void refreshEndingExhibitionIndex();
+
+    List<ExhibitionRankRspDto> getTop10PopularExhibitionRankRspDto(String sortType);
 
     void updateTop10PopularExhibitionRankRspDto();
 
+    void updateTop10TrendingExhibitionRankRspDto();
+
     void clearPopularExhibitionCache();
 
     void updateExhibitionList(List<ExhibitionInfo> updateExhibitionInfoList);
@@ -2,29 +2,42 @@ package com.artfriendly.artfriendly.domain.exhibition.service;
 
 import com.artfriendly.artfriendly.domain.dambyeolag.entity.Dambyeolag;
 import com.artfriendly.artfriendly.domain.dambyeolag.repository.DambyeolagRepository;
+import com.artfriendly.artfriendly.domain.exhibition.cache.ExhibitionRankCache;
+import com.artfriendly.artfriendly.domain.exhibition.cache.LikedExhibitionCache;
+import com.artfriendly.artfriendly.domain.exhibition.cache.LikedExhibitionRow;
 import com.artfriendly.artfriendly.domain.exhibition.cache.PopularExhibitionCache;
+import com.artfriendly.artfriendly.domain.exhibition.cache.TrendingExhibitionCache;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionDetailsRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRankRspDto;
 import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSliceRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.dto.SimilarExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.ending.EndingExhibitionIndex;
 import com.artfriendly.artfriendly.domain.exhibition.entity.*;
 import com.artfriendly.artfriendly.domain.exhibition.mapper.ExhibitionMapper;
+import com.artfriendly.artfriendly.domain.exhibition.recommend.ExhibitionSimilarityIndex;
 import com.artfriendly.artfriendly.domain.exhibition.repository.*;
-import com.artfriendly.artfriendly.domain.member.entity.Member;
+import com.artfriendly.artfriendly.domain.exhibition.search.ExhibitionSearchDocument;
+import com.artfriendly.artfriendly.domain.exhibition.search.ExhibitionSearchIndex;
+import com.artfriendly.artfriendly.domain.exhibition.trending.TrendingScore;
 import com.artfriendly.artfriendly.domain.member.service.MemberService;
 import com.artfriendly.artfriendly.global.exception.common.BusinessException;
 import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
+import com.artfriendly.artfriendly.global.utils.AreaGroup;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Primary
@@ -32,7 +45,14 @@ import java.util.*;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ExhibitionServiceImpl implements ExhibitionService{
+    private static final int INTEREST_SLICE_SIZE = 8;
+
     private final PopularExhibitionCache popularExhibitionCache;
+    private final TrendingExhibitionCache trendingExhibitionCache;
+    private final ExhibitionSearchIndex exhibitionSearchIndex;
+    private final ExhibitionSimilarityIndex exhibitionSimilarityIndex;
+    private final EndingExhibitionIndex endingExhibitionIndex;
+    private final LikedExhibitionCache likedExhibitionCache;
     private final MemberService memberService;
     private final ExhibitionRepository exhibitionRepository;
     private final DambyeolagRepository dambyeolagRepository;
@@ -53,6 +73,7 @@ public class ExhibitionServiceImpl implements ExhibitionService{
         exhibitionInfo.setExhibition(exhibition);
 
         exhibitionRepository.save(exhibition);
+        exhibitionSearchIndex.upsertAfterCommit(ExhibitionSearchDocument.of(exhibition.getId(), exhibitionInfo, exhibition.getTemperature()));
     }
 
     @Override
@@ -63,6 +84,7 @@ public class ExhibitionServiceImpl implements ExhibitionService{
                 continue;
             createExhibition(exhibitionInfo);
         }
+        refreshEndingExhibitionIndex();
     }
 
     @Override
@@ -77,30 +99,25 @@ public class ExhibitionServiceImpl implements ExhibitionService{
 
         addExhibitionView(memberId, exhibitionId);
 
-        return exhibitionMapper.exhibitionToExhibitionDetailsRspDto(exhibition, checkTemperature, isLike, hasDambyeolagBeenWritten);
+        List<SimilarExhibitionRspDto> similarExhibitionRspDtoList = exhibitionSimilarityIndex.getSimilarExhibitions(exhibitionId);
+
+        return exhibitionMapper.exhibitionToExhibitionDetailsRspDto(exhibition, checkTemperature, isLike, hasDambyeolagBeenWritten, similarExhibitionRspDtoList);
     }
 
     @Override
-    @Cacheable(value = "exhibitionPageCache", cacheManager = "exhibitionCache")
+    @Cacheable(value = "exhibitionPageCache", cacheManager = "exhibitionCache", sync = true)
     public Page<ExhibitionRspDto> getExhibitionPageRspDto(long memberId, int page, String area, String progressStatus, String sortType) {
         memberService.findById(memberId);
 
         Pageable pageable = PageRequest.of(page, 8);
         Page<Exhibition> exhibitionPage;
 
-        Map<String, List<String>> areaMap = new HashMap<>();
-
-        areaMap.put("경기/인천", List.of("경기", "인천"));
-        areaMap.put("강원", List.of("강원"));
-        areaMap.put("경남/부산", List.of("경남", "부산", "울산"));
-        areaMap.put("경북/대구", List.of("경북", "대구"));
-        areaMap.put("충청/대전", List.of("충북", "세종", "충남", "대전"));
-        areaMap.put("전라/광주", List.of("전남", "전북", "광주"));
-
-        List<String> selectedAreas = areaMap.getOrDefault(area, List.of(area)); // 기본값으로 area 사용
+        List<String> selectedAreas = AreaGroup.toAreas(area);
 
         if (sortType.equals("popular")) {
             exhibitionPage = exhibitionRepository.findExhibitionByOrderByTemperatureDesc(pageable, progressStatus, selectedAreas);
+        } else if (sortType.equals("trending")) {
+            exhibitionPage = exhibitionRepository.findExhibitionByOrderByTrendingScoreDesc(pageable, progressStatus, selectedAreas);
         } else if (sortType.equals("recent")) {
             exhibitionPage = exhibitionRepository.findExhibitionByOrderByStartDateDesc(pageable, progressStatus, selectedAreas, LocalDate.now());
         } else {
@@ -111,14 +128,31 @@ public class ExhibitionServiceImpl implements ExhibitionService{
     }
 
     @Override
-    @Cacheable(value = "interestExhibitionPageCache", cacheManager = "exhibitionCache")
     public Page<ExhibitionRspDto> getInterestExhibitionPageRspDto(long memberId, int page) {
+        // 좋아요 목록 캐시 버전은 첫 쿼리 전에 읽어야 이 트랜잭션이 보는 데이터 이후의 무효화를 알 수 있다.
+        long likedVersion = likedExhibitionCache.version(memberId);
         memberService.findById(memberId);
 
         Pageable pageable = PageRequest.of(page, 8);
-        Page<Exhibition> exhibitionPage = exhibitionRepository.findExhibitionByMemberIdOrderByLastModifiedTime(pageable, memberId);
+        LikedExhibitionCache.LikedExhibitions likedExhibitions = getLikedExhibitions(memberId, likedVersion);
+        List<LikedExhibitionRow> likedExhibitionRowList = likedExhibitions.subList((int) Math.min(pageable.getOffset(), likedExhibitions.size()), pageable.getPageSize());
 
-        return exhibitionMapper.exhibitionPageToExhibitionRspDto(exhibitionPage, memberId);
+        return new PageImpl<>(findLikedExhibitionRspDtoList(likedExhibitionRowList), pageable, likedExhibitions.size());
+    }
+
+    @Override
+    public ExhibitionSliceRspDto getInterestExhibitionSliceRspDto(long memberId, Long cursor) {
+        // 좋아요 목록 캐시 버전은 첫 쿼리 전에 읽어야 이 트랜잭션이 보는 데이터 이후의 무효화를 알 수 있다.
+        long likedVersion = likedExhibitionCache.version(memberId);
+        memberService.findById(memberId);
+
+        LikedExhibitionCache.LikedExhibitions likedExhibitions = getLikedExhibitions(memberId, likedVersion);
+        int fromIndex = likedExhibitions.indexAfter(cursor);
+        List<LikedExhibitionRow> likedExhibitionRowList = likedExhibitions.subList(fromIndex, INTEREST_SLICE_SIZE);
+
+        boolean hasNext = fromIndex + likedExhibitionRowList.size() < likedExhibitions.size();
+        Long nextCursor = likedExhibitionRowList.isEmpty() ? null : likedExhibitionRowList.get(likedExhibitionRowList.size() - 1).likeId();
+        return new ExhibitionSliceRspDto(findLikedExhibitionRspDtoList(likedExhibitionRowList), nextCursor, hasNext);
     }
 
     @Override
@@ -130,23 +164,17 @@ public class ExhibitionServiceImpl implements ExhibitionService{
     @Transactional
     @Caching(evict =  {
             @CacheEvict(value = "exhibitionDetailsCache", allEntries = true),
-            @CacheEvict(value = "exhibitionPageCache", allEntries = true),
-            @CacheEvict(value = "interestExhibitionPageCache", allEntries = true),
-            @CacheEvict(value = "endingExhibitionCache", allEntries = true, cacheManager = "endingExhibitionCache")
+            @CacheEvict(value = "exhibitionPageCache", allEntries = true)
     })
     public void addExhibitionLike(long memberId, long exhibitionId) {
-        Member member = memberService.findById(memberId);
-        Exhibition exhibition = findExhibitionById(exhibitionId);
-
-        if(findOptionalExhibitionLike(memberId, exhibitionId).isPresent())
-            throw new BusinessException(ErrorCode.EXIST_EXHIBITIONLIKE);
-
-        ExhibitionLike exhibitionLike = ExhibitionLike.builder()
-                .exhibition(exhibition)
-                .member(member)
-                .build();
+        // (회원, 전시) 유니크 제약으로 중복 요청은 무시하고, 실제로 추가된 경우에만 점수 반영
+        if(exhibitionLikeRepository.insertExhibitionLikeIfAbsent(memberId, exhibitionId, LocalDateTime.now()) == 0) {
+            validateMemberAndExhibition(memberId, exhibitionId);
+            return;
+        }
 
-        exhibitionLikeRepository.save(exhibitionLike);
+        likedExhibitionCache.evictAfterCommit(memberId);
+        exhibitionRepository.addTrendingScore(exhibitionId, TrendingScore.now(TrendingScore.LIKE_WEIGHT));
         updateExhibitionTemperature(exhibitionId);
     }
 
@@ -154,15 +182,15 @@ public class ExhibitionServiceImpl implements ExhibitionService{
     @Transactional
     @Caching(evict =  {
             @CacheEvict(value = "exhibitionDetailsCache", allEntries = true),
-            @CacheEvict(value = "exhibitionPageCache", allEntries = true),
-            @CacheEvict(value = "interestExhibitionPageCache", allEntries = true),
-            @CacheEvict(value = "endingExhibitionCache", allEntries = true, cacheManager = "endingExhibitionCache")
+            @CacheEvict(value = "exhibitionPageCache", allEntries = true)
     })
     public void deleteExhibitionLike(long memberId, long exhibitionId) {
-        ExhibitionLike exhibitionLike = findExhibitionLikeByMemberIdAndExhibitionId(memberId, exhibitionId);
+        // 좋아요 행을 잠그면서 인기 점수를 빼므로, 좋아요가 없거나 동시에 들어온 삭제 요청이 먼저 지웠으면 0
+        if(exhibitionLikeRepository.subtractTrendingScoreForDelete(memberId, exhibitionId, TrendingScore.LIKE_WEIGHT, TrendingScore.EPOCH, TrendingScore.HALF_LIFE_SECONDS) == 0)
+            return;
 
-        exhibitionLikeRepository.delete(exhibitionLike);
-        exhibitionLikeRepository.flush(); // 좋아요가 삭제 된 후 DB에 반영 돼야 updateExhibitionTemperature() 메서드가 제대로 동작한다.
+        exhibitionLikeRepository.deleteByMemberIdAndExhibitionId(memberId, exhibitionId);
+        likedExhibitionCache.removeLikeAfterCommit(memberId, exhibitionId);
         updateExhibitionTemperature(exhibitionId);
     }
 
@@ -170,25 +198,18 @@ public class ExhibitionServiceImpl implements ExhibitionService{
     @Transactional
     @Caching(evict =  {
             @CacheEvict(value = "exhibitionDetailsCache", allEntries = true),
-            @CacheEvict(value = "exhibitionPageCache", allEntries = true),
-            @CacheEvict(value = "interestExhibitionPageCache", allEntries = true),
-            @CacheEvict(value = "endingExhibitionCache", allEntries = true, cacheManager = "endingExhibitionCache")
+            @CacheEvict(value = "exhibitionPageCache", allEntries = true)
     })
     public void addExhibitionHope(long memberId, long exhibitionId, int hopeIndex) {
-        Member member = memberService.findById(memberId);
-        Exhibition exhibition = findExhibitionById(exhibitionId);
-
-        if(findOptionalExhibitionHope(memberId, exhibitionId).isPresent())
-            throw new BusinessException(ErrorCode.EXIST_EXHIBITIONHOPE);
-
         ExhibitionHope.Hope hope = mapIndexToHope(hopeIndex);
-        ExhibitionHope exhibitionHope = ExhibitionHope.builder()
-                .member(member)
-                .exhibition(exhibition)
-                .hope(hope)
-                .build();
 
-        exhibitionHopeRepository.save(exhibitionHope);
+        // 이미 희망 사항이 있으면 변경하지 않는다. (변경은 updateExhibitionHope)
+        if(exhibitionHopeRepository.insertExhibitionHopeIfAbsent(memberId, exhibitionId, hope.name(), LocalDateTime.now()) == 0) {
+            validateMemberAndExhibition(memberId, exhibitionId);
+            return;
+        }
+
+        exhibitionRepository.addTrendingScore(exhibitionId, TrendingScore.now(hope.getHopeRating()));
         updateExhibitionTemperature(exhibitionId);
     }
 
@@ -199,12 +220,16 @@ public class ExhibitionServiceImpl implements ExhibitionService{
             @CacheEvict(value = "exhibitionPageCache", allEntries = true)
     })
     public void updateExhibitionHope(long memberId, long exhibitionId, int hopeIndex) {
-        ExhibitionHope exhibitionHope = findExhibitionHopeByMemberIdAndExhibitionHope(memberId, exhibitionId);
+        // 희망 사항 행을 잠그고 읽어, 동시에 들어온 변경 요청이 같은 이전 평가의 점수를 두 번 빼지 않게 한다.
+        ExhibitionHope exhibitionHope = findExhibitionHopeForUpdate(memberId, exhibitionId);
         ExhibitionHope.Hope hope = mapIndexToHope(hopeIndex);
 
         if(exhibitionHope.getHope() == hope)
-            throw new BusinessException(ErrorCode.SAME_EXHIBITIONHOPE);
+            return;
 
+        // 이전 평가는 평가했던 시점의 점수로 빼고, 새 평가는 현재 시점 점수로 더한다.
+        subtractTrendingScore(exhibitionId, exhibitionHope.getHope().getHopeRating(), exhibitionHope.getLastModifiedTime());
+        exhibitionRepository.addTrendingScore(exhibitionId, TrendingScore.now(hope.getHopeRating()));
         exhibitionHope.updateHope(hope);
 
         exhibitionHopeRepository.save(exhibitionHope);
@@ -218,10 +243,13 @@ public class ExhibitionServiceImpl implements ExhibitionService{
             @CacheEvict(value = "exhibitionPageCache", allEntries = true)
     })
     public void deleteExhibitionHope(long memberId, long exhibitionId) {
-        ExhibitionHope exhibitionHope = findExhibitionHopeByMemberIdAndExhibitionHope(memberId, exhibitionId);
+        // 희망 사항 행을 잠그고 읽으므로, 희망 사항이 없거나 동시에 들어온 삭제 요청이 먼저 지웠으면 아무것도 하지 않는다.
+        Optional<ExhibitionHope> exhibitionHope = exhibitionHopeRepository.findExhibitionHopeForUpdate(memberId, exhibitionId);
+        if(exhibitionHope.isEmpty())
+            return;
 
-        exhibitionHopeRepository.delete(exhibitionHope);
-        exhibitionHopeRepository.flush(); // 희망 사항이 삭제 된 후 DB에 반영 돼야 updateExhibitionTemperature() 메서드가 제대로 동작한다.
+        subtractTrendingScore(exhibitionId, exhibitionHope.get().getHope().getHopeRating(), exhibitionHope.get().getLastModifiedTime());
+        exhibitionHopeRepository.deleteByMemberIdAndExhibitionId(memberId, exhibitionId);
         updateExhibitionTemperature(exhibitionId);
     }
 
@@ -233,43 +261,63 @@ public class ExhibitionServiceImpl implements ExhibitionService{
         exhibition.updateTemperature();
 
         exhibitionRepository.save(exhibition);
+        exhibitionSearchIndex.updateTemperatureAfterCommit(exhibitionId, exhibition.getTemperature());
+        endingExhibitionIndex.updateTemperatureAfterCommit(exhibitionId, exhibition.getTemperature());
     }
 
     @Override
     @Transactional
     public void addExhibitionView(long memberId, long exhibitionId) {
-        Optional<ExhibitionView> optionalExhibitionView = findOptionalExhibitionView(memberId, exhibitionId);
-        if(optionalExhibitionView.isEmpty()) {
-            ExhibitionView exhibitionView = ExhibitionView.builder().
-                    member(memberService.findById(memberId))
-                    .exhibition(findExhibitionById(exhibitionId))
-                    .build();
-
-            exhibitionViewRepository.save(exhibitionView);
-            updateExhibitionTemperature(exhibitionId);
+        if(exhibitionViewRepository.insertExhibitionViewIfAbsent(memberId, exhibitionId) == 0) {
+            validateMemberAndExhibition(memberId, exhibitionId);
+            return;
         }
 
+        exhibitionRepository.addTrendingScore(exhibitionId, TrendingScore.now(TrendingScore.VIEW_WEIGHT));
+        updateExhibitionTemperature(exhibitionId);
     }
 
+    // 목록은 모든 회원이 공유하고, 좋아요 여부만 회원별로 한 번 조회해 덮어쓴다.
     @Override
-    @Cacheable(value = "endingExhibitionCache", cacheManager = "endingExhibitionCache")
     public List<ExhibitionRspDto> getTop3ExhibitionsByEndingDate(long memberId) {
-        List<Exhibition> exhibitionList = exhibitionRepository.findTop3ByEndDate("inProgress", LocalDate.now());
-        return exhibitionMapper.exhibitionsToExhibitionRspDtos(exhibitionList, memberId);
+        List<ExhibitionRspDto> exhibitionRspDtoList = endingExhibitionIndex.getEndingExhibitions(LocalDate.now(), 3);
+        if(exhibitionRspDtoList.isEmpty())
+            return exhibitionRspDtoList;
+
+        List<Long> exhibitionIds = exhibitionRspDtoList.stream().map(ExhibitionRspDto::id).toList();
+        Set<Long> likedExhibitionIds = new HashSet<>(exhibitionLikeRepository.findExhibitionIdByMemberIdAndExhibitionIdIn(memberId, exhibitionIds));
+        return exhibitionMapper.exhibitionRspDtosWithLike(exhibitionRspDtoList, likedExhibitionIds);
+    }
+
+    @Override
+    public void refreshEndingExhibitionIndex() {
+        endingExhibitionIndex.rebuild(exhibitionInfoRepository.findExhibitionRspDtoByProgressStatus("inProgress"));
     }
 
     @Override
-    public List<ExhibitionRankRspDto> getTop10PopularExhibitionRankRspDto() {
+    public List<ExhibitionRankRspDto> getTop10PopularExhibitionRankRspDto(String sortType) {
+        if ("trending".equals(sortType))
+            return trendingExhibitionCache.getExhibitionRankRspDtoList();
         return popularExhibitionCache.getExhibitionRankRspDtoList();
     }
 
     @Override
     public void updateTop10PopularExhibitionRankRspDto() {
-        List<ExhibitionRankRspDto> exhibitionRankRspDtoList = new ArrayList<>();
         List<Exhibition> exhibitionList = exhibitionRepository.findTop10ByTemperature("inProgress", LocalDate.now());
+        updateExhibitionRankCache(exhibitionList, popularExhibitionCache);
+    }
+
+    @Override
+    public void updateTop10TrendingExhibitionRankRspDto() {
+        List<Exhibition> exhibitionList = exhibitionRepository.findTop10ByTrendingScore("inProgress");
+        updateExhibitionRankCache(exhibitionList, trendingExhibitionCache);
+    }
+
+    private void updateExhibitionRankCache(List<Exhibition> exhibitionList, ExhibitionRankCache exhibitionRankCache) {
+        List<ExhibitionRankRspDto> exhibitionRankRspDtoList = new ArrayList<>();
         for(int i = 0; i < exhibitionList.size(); i++) {
             Exhibition exhibition = exhibitionList.get(i);
-            ExhibitionRankRspDto cacheExhibitionRankRspDto = popularExhibitionCache.getExhibitionRankRspDto(exhibition.getId());
+            ExhibitionRankRspDto cacheExhibitionRankRspDto = exhibitionRankCache.getExhibitionRankRspDto(exhibition.getId());
             // 기본 순위에 전시가 없을 경우 새로 입력
             if(cacheExhibitionRankRspDto == null) {
                 exhibitionRankRspDtoList.add(exhibitionMapper.exhibitionToExhibitionRankRspDto(exhibition, i+1, "new"));
@@ -279,14 +327,16 @@ public class ExhibitionServiceImpl implements ExhibitionService{
                 exhibitionRankRspDtoList.add(exhibitionMapper.exhibitionToExhibitionRankRspDto(exhibition, i+1, String.valueOf(rankChange)));
             }
         }
-        popularExhibitionCache.clearPopularExhibitionCache();
-        popularExhibitionCache.putExhibitionRankRspDtoListInCache(exhibitionRankRspDtoList);
+        exhibitionRankCache.clearExhibitionRankCache();
+        exhibitionRankCache.putExhibitionRankRspDtoListInCache(exhibitionRankRspDtoList);
     }
 
     @Override
     public void clearPopularExhibitionCache() {
-        popularExhibitionCache.clearPopularExhibitionCache();
+        popularExhibitionCache.clearExhibitionRankCache();
+        trendingExhibitionCache.clearExhibitionRankCache();
         updateTop10PopularExhibitionRankRspDto();
+        updateTop10TrendingExhibitionRankRspDto();
     }
 
     @Override
@@ -295,7 +345,12 @@ public class ExhibitionServiceImpl implements ExhibitionService{
             if(exhibitionInfo == null)
                 continue;
             exhibitionInfoRepository.save(exhibitionInfo);
+
+            Exhibition exhibition = exhibitionInfo.getExhibition();
+            if(exhibition != null)
+                exhibitionSearchIndex.upsertAfterCommit(ExhibitionSearchDocument.of(exhibition.getId(), exhibitionInfo, exhibition.getTemperature()));
         }
+        refreshEndingExhibitionIndex();
     }
 
     @Override
@@ -304,6 +359,19 @@ public class ExhibitionServiceImpl implements ExhibitionService{
         return dambyeolag.isPresent();
     }
 
+    // INSERT IGNORE 가 0 을 반환하면 중복 요청이거나 회원/전시가 없어 FK 위반이 무시된 경우이므로, 이 경우에만 존재 여부를 확인한다.
+    private void validateMemberAndExhibition(long memberId, long exhibitionId) {
+        memberService.findById(memberId);
+        findExhibitionById(exhibitionId);
+    }
+
+    // 시간 정보가 없는 이전 데이터는 백필(db/exhibition-trending-score-backfill.sql)에서도 더하지 않았으므로 빼지 않는다.
+    private void subtractTrendingScore(long exhibitionId, double weight, LocalDateTime eventTime) {
+        if(eventTime == null)
+            return;
+        exhibitionRepository.addTrendingScore(exhibitionId, -TrendingScore.of(weight, eventTime));
+    }
+
     private ExhibitionHope.Hope mapIndexToHope(int hopeIndex) {
         return switch (hopeIndex) {
             case 1 -> ExhibitionHope.Hope.WANT_TO_SEE;
@@ -315,6 +383,26 @@ public class ExhibitionServiceImpl implements ExhibitionService{
         };
     }
 
+    private LikedExhibitionCache.LikedExhibitions getLikedExhibitions(long memberId, long likedVersion) {
+        return likedExhibitionCache.getLikedExhibitions(memberId, likedVersion, exhibitionLikeRepository::findLikedExhibitionRowByMemberId);
+    }
+
+    // 좋아요 목록 순서대로 전시 정보를 한 번에 조회, 모두 좋아요한 전시이므로 좋아요 여부는 다시 확인하지 않는다.
+    private List<ExhibitionRspDto> findLikedExhibitionRspDtoList(List<LikedExhibitionRow> likedExhibitionRowList) {
+        if(likedExhibitionRowList.isEmpty())
+            return List.of();
+
+        List<Long> exhibitionIds = likedExhibitionRowList.stream().map(LikedExhibitionRow::exhibitionId).toList();
+        Map<Long, Integer> orderMap = new HashMap<>();
+        for(int i = 0; i < exhibitionIds.size(); i++) {
+            orderMap.put(exhibitionIds.get(i), i);
+        }
+        List<Exhibition> exhibitionList = new ArrayList<>(exhibitionRepository.findExhibitionWithInfoByIdIn(exhibitionIds));
+        exhibitionList.sort(Comparator.comparing(exhibition -> orderMap.get(exhibition.getId())));
+
+        return exhibitionMapper.exhibitionsToExhibitionRspDtos(exhibitionList, new HashSet<>(exhibitionIds));
+    }
+
     private Optional<Exhibition> findOptionalExhibitionById(long exhibitionId) {
         return exhibitionRepository.findById(exhibitionId);
     }
@@ -336,27 +424,9 @@ public class ExhibitionServiceImpl implements ExhibitionService{
         return false;
     }
 
-    private ExhibitionLike findExhibitionLikeByMemberIdAndExhibitionId(long memberId, long exhibitionId) {
-        Optional<ExhibitionLike> exhibitionLike = findOptionalExhibitionLike(memberId, exhibitionId);
-        return exhibitionLike.orElseThrow(() -> new BusinessException(ErrorCode.NOT_EXIST_EXHIBITIONLIKE));
-    }
-
-    private ExhibitionHope findExhibitionHopeByMemberIdAndExhibitionHope(long memberId, long exhibitionId) {
-        Optional<ExhibitionHope> exhibitionHope = findOptionalExhibitionHope(memberId, exhibitionId);
-        return exhibitionHope.orElseThrow(() -> new BusinessException(ErrorCode.NOT_EXIST_EXHIBITIONHOPE));
-    }
-
-
-    private Optional<ExhibitionLike> findOptionalExhibitionLike(long memberId, long exhibitionId) {
-       return exhibitionLikeRepository.findExhibitionLikeByMemberIdAndExhibitionId(memberId, exhibitionId);
-    }
-
-    private Optional<ExhibitionHope> findOptionalExhibitionHope(long memberId, long exhibitionId) {
-        return exhibitionHopeRepository.findExhibitionHopeByMemberIdAndExhibitionId(memberId, exhibitionId);
-    }
-
-    private Optional<ExhibitionView> findOptionalExhibitionView(long memberId, long exhibitionId) {
-        return exhibitionViewRepository.findExhibitionViewByMemberIdAndExhibitionId(memberId, exhibitionId);
+    private ExhibitionHope findExhibitionHopeForUpdate(long memberId, long exhibitionId) {
+        return exhibitionHopeRepository.findExhibitionHopeForUpdate(memberId, exhibitionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_EXIST_EXHIBITIONHOPE));
     }
 
 }
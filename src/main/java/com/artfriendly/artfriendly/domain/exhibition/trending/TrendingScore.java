@@ -0,0 +1,63 @@
+package com.artfriendly.artfriendly.domain.exhibition.trending;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 시간 감쇠 인기 점수 (forward decay)
+// 현재 시점 점수는 sum(w * 2^(-(now - t) / halfLife)) 이지만, 모든 전시가 같은 2^(-(now - EPOCH) / halfLife) 를 곱하게 되므로
+// w * 2^((t - EPOCH) / halfLife) 를 누적해 두면 주기적으로 전체를 다시 계산하지 않고도 같은 순서로 정렬된다.
+// 반감기 3일 기준 지수가 1024(double 최대)에 닿는 것은 EPOCH 로부터 약 8년 뒤(2032년)이므로, 그 전에 EPOCH 를 옮겨야 한다.
+// 옮기는 방법: 새 EPOCH 로 바꾼 버전을 배포하면서, 요청을 받기 전에
+// UPDATE exhibition SET trending_score = trending_score * POW(2, -TIMESTAMPDIFF(SECOND, 이전 EPOCH, 새 EPOCH) / 259200) 를 한 번 실행한다.
+// 모든 증분에 같은 값을 곱하는 것이므로 순서는 그대로이고, 이후 삭제/변경 때 빼는 값도 새 EPOCH 기준으로 맞는다.
+// 지수가 REBASE_WARN_EXPONENT(한계 약 1년 전)를 넘으면 매일 checkRebaseDeadline 이 오류 로그를 남기고,
+// 한계를 넘으면 점수가 무한대가 되기 전에 쓰기를 실패시킨다.
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TrendingScore {
+    public static final double VIEW_WEIGHT = 0.1;
+    public static final double LIKE_WEIGHT = 0.5;
+
+    // 삭제 시 DB 에서 같은 식(TIMESTAMPDIFF 로 EPOCH 부터의 경과 초)으로 증가분을 계산할 수 있도록 공개한다.
+    public static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    public static final double HALF_LIFE_SECONDS = Duration.ofDays(3).getSeconds();
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long EPOCH_SECOND = EPOCH.atZone(ZONE).toEpochSecond();
+    private static final double REBASE_WARN_EXPONENT = 880;
+    private static final double MAX_EXPONENT = 1000;
+
+    // eventTime 에 발생한 가중치 weight 의 누적 점수 증가분
+    // 시간은 엔티티 시간(JPA Auditing)과 같은 JVM 시계 값이고, JVM 시간대와 관계없이 항상 Asia/Seoul 로 해석해 같은 식이 되게 한다.
+    public static double of(double weight, LocalDateTime eventTime) {
+        double exponent = exponent(eventTime);
+        if (exponent > MAX_EXPONENT)
+            throw new IllegalStateException("인기 점수 지수가 한계에 도달했습니다. TrendingScore EPOCH 를 옮기고 trending_score 를 다시 계산해야 합니다.");
+        return weight * Math.pow(2, exponent);
+    }
+
+    public static double exponent(LocalDateTime eventTime) {
+        return (eventTime.atZone(ZONE).toEpochSecond() - EPOCH_SECOND) / HALF_LIFE_SECONDS;
+    }
+
+    // 쓰기가 실패하기 전에 EPOCH 를 옮길 수 있도록, 남은 기간이 1년 안쪽이면 오류 로그를 남기고 true 반환
+    public static boolean checkRebaseDeadline(LocalDateTime now) {
+        double exponent = exponent(now);
+        if (exponent <= REBASE_WARN_EXPONENT)
+            return false;
+
+        long daysLeft = (long) ((MAX_EXPONENT - exponent) * HALF_LIFE_SECONDS / Duration.ofDays(1).getSeconds());
+        log.error("인기 점수 지수 {} : 약 {}일 뒤부터 좋아요/희망 사항/조회 쓰기가 실패합니다. TrendingScore EPOCH 를 옮기고 trending_score 를 다시 계산해야 합니다.",
+                exponent, daysLeft);
+        return true;
+    }
+
+    public static double now(double weight) {
+        return of(weight, LocalDateTime.now());
+    }
+}
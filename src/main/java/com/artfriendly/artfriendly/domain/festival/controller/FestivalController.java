@@ -0,0 +1,56 @@
+package com.artfriendly.artfriendly.domain.festival.controller;
+
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalDetailsRspDto;
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalRspDto;
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalSliceRspDto;
+import com.artfriendly.artfriendly.domain.festival.service.FestivalService;
+import com.artfriendly.artfriendly.global.api.RspTemplate;
+import com.artfriendly.artfriendly.global.api.SerializedResponseCache;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("festivals")
+@RequiredArgsConstructor
+public class FestivalController {
+    private final FestivalService festivalService;
+    private final SerializedResponseCache serializedResponseCache;
+
+    @GetMapping
+    public RspTemplate<FestivalDetailsRspDto> getFestivalDetails(@RequestParam @NotNull long festivalId) {
+        FestivalDetailsRspDto festivalDetailsRspDto = festivalService.getFestivalDetailsRspDtoById(festivalId);
+        return new RspTemplate<>(HttpStatus.OK, "축제 id : "+festivalId+" 조회", festivalDetailsRspDto);
+    }
+
+    @GetMapping("/lists")
+    public RspTemplate<FestivalSliceRspDto> getFestivalList(@RequestParam String area,
+                                                           @RequestParam String progressStatus,
+                                                           @RequestParam(required = false) Double lastTemperature,
+                                                           @RequestParam(required = false) Long lastId) {
+        FestivalSliceRspDto festivalSliceRspDto = festivalService.getFestivalSliceRspDto(area, progressStatus, lastTemperature, lastId);
+        return new RspTemplate<>(HttpStatus.OK, "축제 목록 조회", festivalSliceRspDto);
+    }
+
+    @GetMapping("/lists/end")
+    public ResponseEntity<byte[]> getEndSoonFestivalList(WebRequest webRequest) {
+        List<FestivalRspDto> festivalRspDtoList = festivalService.getTop3FestivalsByEndingDate();
+        return serializedResponseCache.get("festivals/lists/end", festivalRspDtoList,
+                () -> new RspTemplate<>(HttpStatus.OK, "곧 종료되는 축제 3개", festivalRspDtoList)).toResponseEntity(webRequest);
+    }
+
+    @GetMapping("/lists/popular")
+    public ResponseEntity<byte[]> getPopularFestivalList(WebRequest webRequest) {
+        List<FestivalRspDto> festivalRspDtoList = festivalService.getTop10PopularFestivalRspDto();
+        return serializedResponseCache.get("festivals/lists/popular", festivalRspDtoList,
+                () -> new RspTemplate<>(HttpStatus.OK, "현재 인기 축제 10개", festivalRspDtoList)).toResponseEntity(webRequest);
+    }
+}
@@ -0,0 +1,8 @@
+package com.artfriendly.artfriendly.domain.festival.dto;
+
+public record FestivalDetailsRspDto(
+        long id,
+        Double temperature,
+        FestivalInfoRspDto festivalInfoRspDto
+) {
+}
@@ -0,0 +1,24 @@
+package com.artfriendly.artfriendly.domain.festival.dto;
+
+import java.time.LocalDate;
+
+public record FestivalInfoRspDto(
+        Long id,
+        int seq,
+        String title,
+        String description,
+        String organizer,
+        String homepageUrl,
+        LocalDate startDate,
+        LocalDate endDate,
+        String place,
+        String area,
+        String imageUrl,
+        double gpsX,
+        double gpsY,
+        String phone,
+        String price,
+        String placeAddr,
+        String progressStatus
+) {
+}
@@ -0,0 +1,15 @@
+package com.artfriendly.artfriendly.domain.festival.dto;
+
+import java.time.LocalDate;
+
+public record FestivalRspDto(
+        long id,
+        String title,
+        String imageUrl,
+        Double temperature,
+        LocalDate startDate,
+        LocalDate endDate,
+        String place,
+        String area
+) {
+}
@@ -0,0 +1,10 @@
+package com.artfriendly.artfriendly.domain.festival.dto;
+
+import java.util.List;
+
+// 다음 페이지는 마지막 축제의 temperature, id를 커서로 요청
+public record FestivalSliceRspDto(
+        List<FestivalRspDto> festivalRspDtoList,
+        boolean hasNext
+) {
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_festival_temperature_id", columnList = "temperature, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Festival {
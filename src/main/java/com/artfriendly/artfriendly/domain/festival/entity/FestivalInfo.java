@@ -12,6 +12,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_festival_info_progress_status_area", columnList = "progress_status, area"),
+        @Index(name = "idx_festival_info_progress_status_end_date", columnList = "progress_status, end_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FestivalInfo extends BaseTimeEntity {
@@ -0,0 +1,19 @@
+package com.artfriendly.artfriendly.domain.festival.mapper;
+
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalDetailsRspDto;
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalInfoRspDto;
+import com.artfriendly.artfriendly.domain.festival.entity.FestivalInfo;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface FestivalMapper {
+    default FestivalDetailsRspDto festivalInfoToFestivalDetailsRspDto(FestivalInfo festivalInfo) {
+        return new FestivalDetailsRspDto(
+                festivalInfo.getFestival().getId(),
+                festivalInfo.getFestival().getTemperature(),
+                festivalInfoToFestivalInfoRspDto(festivalInfo)
+        );
+    }
+
+    FestivalInfoRspDto festivalInfoToFestivalInfoRspDto(FestivalInfo festivalInfo);
+}
@@ -2,6 +2,14 @@ package com.artfriendly.artfriendly.domain.festival.repository;
 
 import com.artfriendly.artfriendly.domain.festival.entity.FestivalInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface FestivalInfoRepository extends JpaRepository<FestivalInfo, Long> {
+    @Query("SELECT fi FROM FestivalInfo fi " +
+            "JOIN FETCH fi.festival f " +
+            "WHERE f.id = :festivalId")
+    Optional<FestivalInfo> findFestivalInfoByFestivalId(@Param("festivalId") long festivalId);
 }
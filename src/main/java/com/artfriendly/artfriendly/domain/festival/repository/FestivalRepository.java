@@ -1,7 +1,60 @@
 package com.artfriendly.artfriendly.domain.festival.repository;
 
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalRspDto;
 import com.artfriendly.artfriendly.domain.festival.entity.Festival;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
+
+// 목록 조회는 엔티티 대신 DTO 프로젝션으로 한 번에 조회 (연관 엔티티 추가 조회 X)
 public interface FestivalRepository extends JpaRepository<Festival, Long> {
+    @Query("SELECT new com.artfriendly.artfriendly.domain.festival.dto.FestivalRspDto(" +
+            "f.id, fi.title, fi.imageUrl, f.temperature, fi.startDate, fi.endDate, fi.place, fi.area) " +
+            "FROM Festival f " +
+            "JOIN f.festivalInfo fi " +
+            "WHERE fi.progressStatus = :progressStatus " +
+            "AND fi.area IN :areas " +
+            "ORDER BY f.temperature DESC, f.id DESC")
+    List<FestivalRspDto> findFestivalRspDtoFirstSlice(Pageable pageable,
+                                                      @Param("progressStatus") String progressStatus,
+                                                      @Param("areas") List<String> areas);
+
+    // 키셋 페이징 : OFFSET 없이 마지막으로 조회한 (temperature, id) 다음부터 조회
+    @Query("SELECT new com.artfriendly.artfriendly.domain.festival.dto.FestivalRspDto(" +
+            "f.id, fi.title, fi.imageUrl, f.temperature, fi.startDate, fi.endDate, fi.place, fi.area) " +
+            "FROM Festival f " +
+            "JOIN f.festivalInfo fi " +
+            "WHERE fi.progressStatus = :progressStatus " +
+            "AND fi.area IN :areas " +
+            "AND (f.temperature < :lastTemperature " +
+            "OR (f.temperature = :lastTemperature AND f.id < :lastId)) " +
+            "ORDER BY f.temperature DESC, f.id DESC")
+    List<FestivalRspDto> findFestivalRspDtoSliceAfter(Pageable pageable,
+                                                      @Param("progressStatus") String progressStatus,
+                                                      @Param("areas") List<String> areas,
+                                                      @Param("lastTemperature") double lastTemperature,
+                                                      @Param("lastId") long lastId);
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.festival.dto.FestivalRspDto(" +
+            "f.id, fi.title, fi.imageUrl, f.temperature, fi.startDate, fi.endDate, fi.place, fi.area) " +
+            "FROM Festival f " +
+            "JOIN f.festivalInfo fi " +
+            "WHERE fi.progressStatus = :progressStatus " +
+            "ORDER BY f.temperature DESC, f.id DESC")
+    List<FestivalRspDto> findFestivalRspDtoOrderByTemperature(Pageable pageable, @Param("progressStatus") String progressStatus);
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.festival.dto.FestivalRspDto(" +
+            "f.id, fi.title, fi.imageUrl, f.temperature, fi.startDate, fi.endDate, fi.place, fi.area) " +
+            "FROM Festival f " +
+            "JOIN f.festivalInfo fi " +
+            "WHERE fi.progressStatus = :progressStatus " +
+            "AND fi.endDate >= :now " +
+            "ORDER BY fi.endDate ASC, f.temperature DESC")
+    List<FestivalRspDto> findFestivalRspDtoOrderByEndDate(Pageable pageable,
+                                                          @Param("progressStatus") String progressStatus,
+                                                          @Param("now") LocalDate now);
 }
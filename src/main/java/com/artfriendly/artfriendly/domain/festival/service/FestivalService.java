@@ -0,0 +1,17 @@
+package com.artfriendly.artfriendly.domain.festival.service;
+
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalDetailsRspDto;
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalRspDto;
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalSliceRspDto;
+
+import java.util.List;
+
+public interface FestivalService {
+    FestivalSliceRspDto getFestivalSliceRspDto(String area, String progressStatus, Double lastTemperature, Long lastId);
+
+    FestivalDetailsRspDto getFestivalDetailsRspDtoById(long festivalId);
+
+    List<FestivalRspDto> getTop3FestivalsByEndingDate();
+
+    List<FestivalRspDto> getTop10PopularFestivalRspDto();
+}
@@ -0,0 +1,73 @@
+package com.artfriendly.artfriendly.domain.festival.service;
+
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalDetailsRspDto;
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalRspDto;
+import com.artfriendly.artfriendly.domain.festival.dto.FestivalSliceRspDto;
+import com.artfriendly.artfriendly.domain.festival.entity.FestivalInfo;
+import com.artfriendly.artfriendly.domain.festival.mapper.FestivalMapper;
+import com.artfriendly.artfriendly.domain.festival.repository.FestivalInfoRepository;
+import com.artfriendly.artfriendly.domain.festival.repository.FestivalRepository;
+import com.artfriendly.artfriendly.global.exception.common.BusinessException;
+import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
+import com.artfriendly.artfriendly.global.utils.AreaGroup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 축제 데이터는 배치로만 갱신되므로 캐시는 키 단위 TTL 만료로 관리 (allEntries 무효화 X)
+@Primary
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class FestivalServiceImpl implements FestivalService {
+    private static final int PAGE_SIZE = 8;
+
+    private final FestivalRepository festivalRepository;
+    private final FestivalInfoRepository festivalInfoRepository;
+    private final FestivalMapper festivalMapper;
+
+    @Override
+    public FestivalSliceRspDto getFestivalSliceRspDto(String area, String progressStatus, Double lastTemperature, Long lastId) {
+        List<String> selectedAreas = AreaGroup.toAreas(area);
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE + 1);
+
+        List<FestivalRspDto> festivalRspDtoList;
+        if (lastTemperature == null || lastId == null)
+            festivalRspDtoList = festivalRepository.findFestivalRspDtoFirstSlice(pageRequest, progressStatus, selectedAreas);
+        else
+            festivalRspDtoList = festivalRepository.findFestivalRspDtoSliceAfter(pageRequest, progressStatus, selectedAreas, lastTemperature, lastId);
+
+        boolean hasNext = festivalRspDtoList.size() > PAGE_SIZE;
+        if (hasNext)
+            festivalRspDtoList = festivalRspDtoList.subList(0, PAGE_SIZE);
+
+        return new FestivalSliceRspDto(festivalRspDtoList, hasNext);
+    }
+
+    @Override
+    @Cacheable(value = "festivalDetailsCache", key = "#festivalId", cacheManager = "festivalCache", sync = true)
+    public FestivalDetailsRspDto getFestivalDetailsRspDtoById(long festivalId) {
+        FestivalInfo festivalInfo = festivalInfoRepository.findFestivalInfoByFestivalId(festivalId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FESTIVAL_NOT_FOUND));
+        return festivalMapper.festivalInfoToFestivalDetailsRspDto(festivalInfo);
+    }
+
+    @Override
+    @Cacheable(value = "endingFestivalCache", cacheManager = "festivalCache", sync = true)
+    public List<FestivalRspDto> getTop3FestivalsByEndingDate() {
+        return festivalRepository.findFestivalRspDtoOrderByEndDate(PageRequest.of(0, 3), "inProgress", LocalDate.now());
+    }
+
+    @Override
+    @Cacheable(value = "popularFestivalCache", cacheManager = "festivalCache", sync = true)
+    public List<FestivalRspDto> getTop10PopularFestivalRspDto() {
+        return festivalRepository.findFestivalRspDtoOrderByTemperature(PageRequest.of(0, 10), "inProgress");
+    }
+}
@@ -0,0 +1,49 @@
+package com.artfriendly.artfriendly.domain.member.entity;
+
+import com.artfriendly.artfriendly.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 탈퇴 회원 데이터 정리 작업, 탈퇴 트랜잭션과 함께 저장되고 정리가 끝나면 삭제된다.
+@Entity
+@Table(indexes = @Index(name = "idx_member_deletion_job_next_attempt_time", columnList = "next_attempt_time"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberDeletionJob extends BaseTimeEntity {
+    private static final Duration BASE_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private long memberId;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptTime;
+
+    @Builder
+    public MemberDeletionJob(Long id, long memberId, LocalDateTime nextAttemptTime) {
+        this.id = id;
+        this.memberId = memberId;
+        this.attemptCount = 0;
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    // 1분부터 두 배씩 늘려 최대 1시간 간격으로 재시도
+    public void retryLater(LocalDateTime now) {
+        this.attemptCount++;
+        long backoffSeconds = Math.min(BASE_BACKOFF.getSeconds() << Math.min(attemptCount - 1, 20), MAX_BACKOFF.getSeconds());
+        this.nextAttemptTime = now.plusSeconds(backoffSeconds);
+    }
+}
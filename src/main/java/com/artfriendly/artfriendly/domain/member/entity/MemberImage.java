@@ -17,6 +17,9 @@ public class MemberImage {
     @Column
     private String imageUrl;
 
+    @Column
+    private String thumbnailUrl;
+
     @Column
     private String fileName;
 
@@ -36,4 +39,15 @@ public class MemberImage {
         this.imageUrl = imageUrl;
         this.fileName = fileName;
     }
+
+    public void updateForm(String imageUrl, String thumbnailUrl, String fileName) {
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.fileName = fileName;
+    }
+
+    // 썸네일이 없는 기본 이미지, 기존 업로드 이미지는 원본 주소 사용
+    public String getThumbnailUrlOrImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
 }
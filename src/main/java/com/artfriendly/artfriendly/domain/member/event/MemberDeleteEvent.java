@@ -1,18 +1,17 @@
 package com.artfriendly.artfriendly.domain.member.event;
 
-import com.artfriendly.artfriendly.domain.member.entity.Member;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
 public class MemberDeleteEvent extends ApplicationEvent {
     private final String message;
-    private final transient Member member;
+    private final long memberId;
 
-    public MemberDeleteEvent(Object source, String message, Member member) {
+    public MemberDeleteEvent(Object source, String message, long memberId) {
         super(source);
         this.message = message;
-        this.member = member;
+        this.memberId = memberId;
     }
 
 }
@@ -1,20 +1,28 @@
 package com.artfriendly.artfriendly.domain.member.event;
 
-import com.artfriendly.artfriendly.domain.dambyeolag.service.dambyeolag.DambyeolagService;
-import com.artfriendly.artfriendly.domain.member.service.MemberService;
+import com.artfriendly.artfriendly.domain.member.service.MemberDeletionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MemberEventListener {
 
-    private final MemberService memberService;
-    private final DambyeolagService dambyeolagService;
+    private final MemberDeletionService memberDeletionService;
 
-    @EventListener
+    // 탈퇴 트랜잭션이 커밋된 뒤 별도 스레드에서 정리, 실패하면 작업이 남아 있으므로 스케줄러가 재시도한다.
+    @Async("memberDeletionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void deleteMemberData(MemberDeleteEvent memberDeleteEvent) {
-        memberService.deleteMemberImage(memberDeleteEvent.getMember());
-        dambyeolagService.deleteBookmarksByMember(memberDeleteEvent.getMember());
+        try {
+            memberDeletionService.deleteMemberData(memberDeleteEvent.getMemberId());
+        } catch (RuntimeException e) {
+            log.warn("탈퇴 회원 데이터 정리 실패, 재시도 예정 : memberId={}, {}", memberDeleteEvent.getMemberId(), e.getMessage());
+        }
     }
 }
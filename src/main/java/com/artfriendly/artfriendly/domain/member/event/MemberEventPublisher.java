@@ -1,6 +1,5 @@
 package com.artfriendly.artfriendly.domain.member.event;
 
-import com.artfriendly.artfriendly.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
@@ -10,8 +9,8 @@ import org.springframework.stereotype.Component;
 public class MemberEventPublisher {
     private final ApplicationEventPublisher applicationEventPublisher;
 
-    public void memberDeleteEventPublish(String message, Member member) {
-        MemberDeleteEvent memberDeleteEvent = new MemberDeleteEvent(this, message, member);
+    public void memberDeleteEventPublish(String message, long memberId) {
+        MemberDeleteEvent memberDeleteEvent = new MemberDeleteEvent(this, message, memberId);
         applicationEventPublisher.publishEvent(memberDeleteEvent);
     }
 }
@@ -14,7 +14,7 @@ import java.util.List;
 
 @Mapper(componentModel = "spring", uses = { MbtiMapper.class, MbtiService.class })
 public interface MemberMapper {
-    @Mapping(source = "image.imageUrl", target = "imageUrl")
+    @Mapping(source = "image.thumbnailUrlOrImageUrl", target = "imageUrl")
     MemberResponseDto memberToMemberResponseDto(Member member);
     @Mapping(source = "image.imageUrl", target = "imageUrl")
     @Mapping(source = "mbti", target = "mbtiSimpleRspDto")
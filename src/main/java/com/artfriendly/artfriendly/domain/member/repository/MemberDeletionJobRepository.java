@@ -0,0 +1,26 @@
+package com.artfriendly.artfriendly.domain.member.repository;
+
+import com.artfriendly.artfriendly.domain.member.entity.MemberDeletionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberDeletionJobRepository extends JpaRepository<MemberDeletionJob, Long> {
+    @Query(value = "SELECT member_id FROM member_deletion_job " +
+            "WHERE next_attempt_time <= :now " +
+            "ORDER BY id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDueMemberIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    Optional<MemberDeletionJob> findMemberDeletionJobByMemberId(long memberId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MemberDeletionJob j WHERE j.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") long memberId);
+}
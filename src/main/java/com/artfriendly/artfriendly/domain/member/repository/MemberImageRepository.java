@@ -2,6 +2,18 @@ package com.artfriendly.artfriendly.domain.member.repository;
 
 import com.artfriendly.artfriendly.domain.member.entity.MemberImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface MemberImageRepository extends JpaRepository<MemberImage, Long> {
+    @Query("SELECT mi.fileName FROM MemberImage mi " +
+            "WHERE mi.member.id = :memberId")
+    Optional<String> findFileNameByMemberId(@Param("memberId") long memberId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MemberImage mi WHERE mi.member.id = :memberId")
+    int deleteByMemberId(@Param("memberId") long memberId);
 }
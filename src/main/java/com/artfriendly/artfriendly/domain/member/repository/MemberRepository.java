@@ -1,10 +1,12 @@
 package com.artfriendly.artfriendly.domain.member.repository;
 
+import com.artfriendly.artfriendly.domain.exhibition.recommend.MemberSegmentRow;
 import com.artfriendly.artfriendly.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -19,4 +21,18 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m " +
             "WHERE m.id = :memberId ")
     Member findMemberById(@Param("memberId") Long memberId);
+
+    // 추천 세그먼트 계산용, 취향이 여러 개면 취향마다 한 행
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.recommend.MemberSegmentRow(m.id, mb.mbtiType, p) " +
+            "FROM Member m " +
+            "LEFT JOIN m.mbti mb " +
+            "LEFT JOIN m.artPreferenceTypeList p")
+    List<MemberSegmentRow> findAllMemberSegmentRow();
+
+    @Query("SELECT new com.artfriendly.artfriendly.domain.exhibition.recommend.MemberSegmentRow(m.id, mb.mbtiType, p) " +
+            "FROM Member m " +
+            "LEFT JOIN m.mbti mb " +
+            "LEFT JOIN m.artPreferenceTypeList p " +
+            "WHERE m.id = :memberId")
+    List<MemberSegmentRow> findMemberSegmentRowByMemberId(@Param("memberId") long memberId);
 }
@@ -0,0 +1,10 @@
+package com.artfriendly.artfriendly.domain.member.service;
+
+import java.util.List;
+
+public interface MemberDeletionService {
+    void enqueueMemberDeletion(long memberId);
+    void deleteMemberData(long memberId);
+    List<Long> getDueMemberIds();
+    void retryMemberDeletionLater(long memberId);
+}
@@ -0,0 +1,73 @@
+package com.artfriendly.artfriendly.domain.member.service;
+
+import com.artfriendly.artfriendly.domain.dambyeolag.repository.DambyeolagBookmarkRepository;
+import com.artfriendly.artfriendly.domain.member.entity.MemberDeletionJob;
+import com.artfriendly.artfriendly.domain.member.repository.MemberDeletionJobRepository;
+import com.artfriendly.artfriendly.domain.member.repository.MemberImageRepository;
+import com.artfriendly.artfriendly.domain.s3.service.S3DeleteOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Primary
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MemberDeletionServiceImpl implements MemberDeletionService {
+    private static final String DEFAULT_IMAGE_FILE_NAME = "Default_Image";
+    private static final int BATCH_SIZE = 100;
+    // 커밋 직후 비동기 처리가 먼저 끝나도록 스케줄러는 이 시간 이후에만 가져간다.
+    private static final long FIRST_RETRY_DELAY_MINUTES = 1;
+
+    private final MemberDeletionJobRepository memberDeletionJobRepository;
+    private final MemberImageRepository memberImageRepository;
+    private final DambyeolagBookmarkRepository dambyeolagBookmarkRepository;
+    private final S3DeleteOutboxService s3DeleteOutboxService;
+
+    // 호출한 탈퇴 트랜잭션에 함께 저장된다.
+    @Override
+    @Transactional
+    public void enqueueMemberDeletion(long memberId) {
+        if (memberDeletionJobRepository.findMemberDeletionJobByMemberId(memberId).isPresent())
+            return;
+
+        MemberDeletionJob memberDeletionJob = MemberDeletionJob.builder()
+                .memberId(memberId)
+                .nextAttemptTime(LocalDateTime.now().plusMinutes(FIRST_RETRY_DELAY_MINUTES))
+                .build();
+        memberDeletionJobRepository.save(memberDeletionJob);
+    }
+
+    // 회원 데이터 양과 관계없이 테이블 당 DELETE 한 번으로 정리, 여러 번 실행되어도 결과는 같다.
+    @Override
+    @Transactional
+    public void deleteMemberData(long memberId) {
+        memberImageRepository.findFileNameByMemberId(memberId)
+                .filter(fileName -> !fileName.equals(DEFAULT_IMAGE_FILE_NAME))
+                .ifPresent(s3DeleteOutboxService::enqueueImage);
+
+        int imageCount = memberImageRepository.deleteByMemberId(memberId);
+        int bookmarkCount = dambyeolagBookmarkRepository.deleteByMemberId(memberId);
+        memberDeletionJobRepository.deleteByMemberId(memberId);
+
+        log.info("탈퇴 회원 데이터 정리 완료 : memberId={}, 이미지 {}건, 북마크 {}건", memberId, imageCount, bookmarkCount);
+    }
+
+    @Override
+    public List<Long> getDueMemberIds() {
+        return memberDeletionJobRepository.findDueMemberIds(LocalDateTime.now(), BATCH_SIZE);
+    }
+
+    @Override
+    @Transactional
+    public void retryMemberDeletionLater(long memberId) {
+        memberDeletionJobRepository.findMemberDeletionJobByMemberId(memberId)
+                .ifPresent(memberDeletionJob -> memberDeletionJob.retryLater(LocalDateTime.now()));
+    }
+}
@@ -11,9 +11,10 @@ import com.artfriendly.artfriendly.domain.member.entity.Member;
 import com.artfriendly.artfriendly.domain.member.entity.MemberImage;
 import com.artfriendly.artfriendly.domain.member.entity.WithdrawalReason;
 import com.artfriendly.artfriendly.domain.member.mapper.MemberMapper;
-import com.artfriendly.artfriendly.domain.member.repository.MemberImageRepository;
 import com.artfriendly.artfriendly.domain.member.repository.MemberRepository;
 import com.artfriendly.artfriendly.domain.member.repository.WithdrawalReasonRepository;
+import com.artfriendly.artfriendly.domain.s3.image.ImageVariant;
+import com.artfriendly.artfriendly.domain.s3.service.S3DeleteOutboxService;
 import com.artfriendly.artfriendly.domain.s3.service.S3Service;
 import com.artfriendly.artfriendly.global.exception.common.BusinessException;
 import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
@@ -37,12 +38,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
-    private final MemberImageRepository memberImageRepository;
     private final WithdrawalReasonRepository withdrawalReasonRepository;
     private final MemberEventPublisher memberEventPublisher;
     private final CustomAuthorityUtils customAuthorityUtils;
     private final MemberMapper memberMapper;
     private final S3Service s3Service;
+    private final S3DeleteOutboxService s3DeleteOutboxService;
+    private final MemberDeletionService memberDeletionService;
 
     @Value("${profile.default-image}")
     String defaultImageUrl;
@@ -126,24 +128,14 @@ public class MemberServiceImpl implements MemberService {
 
         // 기본 이미지 삭제(카카오톡 프로필 사진 제외)
         if(!memberImage.getFileName().equals("Default_Image")) {
-            s3Service.deleteImageByFileName(memberImage.getFileName());
+            s3DeleteOutboxService.enqueueImage(memberImage.getFileName());
         }
 
-        String fileName = s3Service.fileUpLoad(image);
-        String imageUrl = s3Service.getImageUrl(fileName);
+        String fileName = s3Service.imageUpLoad(image);
+        String imageUrl = s3Service.getImageUrl(ImageVariant.MEDIUM.keyOf(fileName));
+        String thumbnailUrl = s3Service.getImageUrl(ImageVariant.THUMBNAIL.keyOf(fileName));
 
-        memberImage.updateForm(imageUrl, fileName);
-    }
-
-    @Override
-    @Transactional
-    public void deleteMemberImage(Member member) {
-        MemberImage memberImage = member.getImage();
-        if(!memberImage.getFileName().equals("Default_Image")) {
-            s3Service.deleteImageByFileName(memberImage.getFileName());
-        }
-        member.setImage(null);
-        memberImageRepository.delete(memberImage);
+        memberImage.updateForm(imageUrl, thumbnailUrl, fileName);
     }
 
     @Override
@@ -151,7 +143,9 @@ public class MemberServiceImpl implements MemberService {
     public void accountDeletion(long memberId) {
         Member member = findById(memberId);
 
-        memberEventPublisher.memberDeleteEventPublish(memberId+"회원 탈퇴", member);
+        // 이미지, 북마크 정리는 커밋 후 비동기로 처리하고 작업 행은 같은 트랜잭션에 저장
+        memberDeletionService.enqueueMemberDeletion(memberId);
+        memberEventPublisher.memberDeleteEventPublish(memberId+"회원 탈퇴", memberId);
         member.deleteMember();
 
         memberRepository.save(member);
@@ -0,0 +1,49 @@
+package com.artfriendly.artfriendly.domain.s3.entity;
+
+import com.artfriendly.artfriendly.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 삭제할 S3 객체 키, 비즈니스 트랜잭션과 함께 저장되고 S3DeleteScheduler 가 비운다.
+@Entity
+@Table(indexes = @Index(name = "idx_s3_delete_outbox_next_attempt_time", columnList = "next_attempt_time"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class S3DeleteOutbox extends BaseTimeEntity {
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptTime;
+
+    @Builder
+    public S3DeleteOutbox(Long id, String objectKey, LocalDateTime nextAttemptTime) {
+        this.id = id;
+        this.objectKey = objectKey;
+        this.attemptCount = 0;
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    // 30초부터 두 배씩 늘려 최대 1시간 간격으로 재시도
+    public void retryLater(LocalDateTime now) {
+        this.attemptCount++;
+        long backoffSeconds = Math.min(BASE_BACKOFF.getSeconds() << Math.min(attemptCount - 1, 20), MAX_BACKOFF.getSeconds());
+        this.nextAttemptTime = now.plusSeconds(backoffSeconds);
+    }
+}
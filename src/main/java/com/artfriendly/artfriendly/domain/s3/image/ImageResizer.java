@@ -0,0 +1,201 @@
+package com.artfriendly.artfriendly.domain.s3.image;
+
+import com.artfriendly.artfriendly.global.exception.common.BusinessException;
+import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Node;
+
+import javax.imageio.*;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// 업로드 이미지를 고정 크기 JPEG 로 재인코딩 (재인코딩 과정에서 EXIF 등 메타데이터는 제거된다)
+@Component
+public class ImageResizer {
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+
+    public Map<ImageVariant, byte[]> resize(InputStream inputStream) throws IOException {
+        BufferedImage image = read(inputStream);
+
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant imageVariant : ImageVariant.values()) {
+            variants.put(imageVariant, writeJpeg(scale(image, imageVariant.getMaxSize())));
+        }
+        return variants;
+    }
+
+    private BufferedImage read(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? null : ImageIO.getImageReaders(imageInputStream);
+            if (readers == null || !readers.hasNext())
+                throw new BusinessException(ErrorCode.INVALID_IMAGE_FILE);
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, false);
+                int orientation = readExifOrientation(reader);
+
+                // 가장 큰 변형 크기 이상은 유지하면서 디코딩 단계에서 미리 축소해 메모리 사용량을 줄인다.
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longestSide / ImageVariant.largestMaxSize());
+                ImageReadParam imageReadParam = reader.getDefaultReadParam();
+                imageReadParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                BufferedImage image = reader.read(0, imageReadParam);
+                if (image == null)
+                    throw new BusinessException(ErrorCode.INVALID_IMAGE_FILE);
+                return rotate(image, orientation);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 잘린 파일, 지원하지 않는 색 공간 등 디코딩 실패는 모두 잘못된 이미지로 응답한다.
+            throw new BusinessException(ErrorCode.INVALID_IMAGE_FILE);
+        }
+    }
+
+    private BufferedImage scale(BufferedImage image, int maxSize) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        // JPEG 는 알파 채널이 없으므로 투명 영역은 흰색 배경으로 채운다.
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam imageWriteParam = writer.getDefaultWriteParam();
+        imageWriteParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        imageWriteParam.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), imageWriteParam);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    // 메타데이터를 제거하면 휴대폰 사진이 회전되어 보이므로 EXIF 회전 정보만 픽셀에 반영한다.
+    private BufferedImage rotate(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform = new AffineTransform();
+        boolean swapSize = false;
+
+        switch (orientation) {
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+                swapSize = true;
+            }
+            case 8 -> {
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+                swapSize = true;
+            }
+            default -> {
+                return image;
+            }
+        }
+
+        BufferedImage rotated = new BufferedImage(swapSize ? height : width, swapSize ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+
+    private int readExifOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName()))
+                return 1;
+
+            Node markerSequence = ((IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT))
+                    .getElementsByTagName("markerSequence").item(0);
+            if (markerSequence == null)
+                return 1;
+
+            for (Node node = markerSequence.getFirstChild(); node != null; node = node.getNextSibling()) {
+                if (!(node instanceof IIOMetadataNode markerNode) || !"unknown".equals(markerNode.getNodeName()))
+                    continue;
+                if (Integer.parseInt(markerNode.getAttribute("MarkerTag")) != APP1_MARKER)
+                    continue;
+                if (markerNode.getUserObject() instanceof byte[] app1)
+                    return parseOrientation(app1);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 회전 정보를 읽지 못하면 원본 방향 그대로 사용
+        }
+        return 1;
+    }
+
+    // APP1 = "Exif\0\0" + TIFF 헤더 + IFD0, IFD0 에서 Orientation(0x0112) 태그 검색
+    private int parseOrientation(byte[] app1) {
+        if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f')
+            return 1;
+
+        int tiff = 6;
+        boolean littleEndian = app1[tiff] == 'I';
+        int ifdOffset = tiff + readInt(app1, tiff + 4, littleEndian);
+        if (ifdOffset + 2 > app1.length)
+            return 1;
+
+        int entryCount = readShort(app1, ifdOffset, littleEndian);
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > app1.length)
+                break;
+            if (readShort(app1, entry, littleEndian) == 0x0112)
+                return readShort(app1, entry + 8, littleEndian);
+        }
+        return 1;
+    }
+
+    private int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int high = readShort(bytes, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(bytes, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
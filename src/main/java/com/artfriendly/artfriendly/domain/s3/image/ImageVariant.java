@@ -0,0 +1,30 @@
+package com.artfriendly.artfriendly.domain.s3.image;
+
+import lombok.Getter;
+
+@Getter
+public enum ImageVariant {
+    THUMBNAIL("thumb", 160),
+    MEDIUM("medium", 640);
+
+    private final String suffix;
+    private final int maxSize; // 긴 변 기준 최대 픽셀
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    // 원본 키에서 변형 이미지 키를 결정 (user_Image/profile_1700000000000 -> user_Image/profile_1700000000000_thumb.jpg)
+    public String keyOf(String baseKey) {
+        return baseKey + "_" + suffix + ".jpg";
+    }
+
+    public static int largestMaxSize() {
+        int largest = 0;
+        for (ImageVariant imageVariant : values()) {
+            largest = Math.max(largest, imageVariant.maxSize);
+        }
+        return largest;
+    }
+}
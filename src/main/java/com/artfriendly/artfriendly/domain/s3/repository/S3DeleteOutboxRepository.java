@@ -0,0 +1,25 @@
+package com.artfriendly.artfriendly.domain.s3.repository;
+
+import com.artfriendly.artfriendly.domain.s3.entity.S3DeleteOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface S3DeleteOutboxRepository extends JpaRepository<S3DeleteOutbox, Long> {
+    // 여러 인스턴스가 동시에 비워도 같은 행을 가져가지 않도록 SKIP LOCKED 사용 (MySQL 8)
+    @Query(value = "SELECT * FROM s3_delete_outbox " +
+            "WHERE next_attempt_time <= :now " +
+            "ORDER BY id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<S3DeleteOutbox> findDueS3DeleteOutboxForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE S3DeleteOutbox o SET o.nextAttemptTime = :nextAttemptTime WHERE o.id IN :ids")
+    int updateNextAttemptTime(@Param("ids") List<Long> ids, @Param("nextAttemptTime") LocalDateTime nextAttemptTime);
+}
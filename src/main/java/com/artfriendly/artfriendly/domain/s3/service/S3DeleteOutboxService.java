@@ -0,0 +1,18 @@
+package com.artfriendly.artfriendly.domain.s3.service;
+
+import com.artfriendly.artfriendly.domain.s3.entity.S3DeleteOutbox;
+
+import java.util.List;
+import java.util.Set;
+
+public interface S3DeleteOutboxService {
+    int BATCH_SIZE = 1000; // S3 DeleteObjects 요청 당 최대 키 개수
+
+    void enqueueImage(String fileName);
+
+    List<S3DeleteOutbox> claimDueObjects();
+
+    Set<String> deleteObjects(List<S3DeleteOutbox> s3DeleteOutboxList);
+
+    void completeDeletion(List<S3DeleteOutbox> s3DeleteOutboxList, Set<String> failedKeys);
+}
@@ -0,0 +1,96 @@
+package com.artfriendly.artfriendly.domain.s3.service;
+
+import com.artfriendly.artfriendly.domain.s3.entity.S3DeleteOutbox;
+import com.artfriendly.artfriendly.domain.s3.repository.S3DeleteOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Primary
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class S3DeleteOutboxServiceImpl implements S3DeleteOutboxService {
+    private static final int MAX_ATTEMPT_COUNT = 10;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    private final S3DeleteOutboxRepository s3DeleteOutboxRepository;
+    private final S3Service s3Service;
+
+    // 호출한 트랜잭션에 함께 저장되므로 롤백되면 삭제 요청도 남지 않는다.
+    @Override
+    @Transactional
+    public void enqueueImage(String fileName) {
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeleteOutbox> s3DeleteOutboxList = s3Service.getImageObjectKeys(fileName).stream()
+                .map(objectKey -> S3DeleteOutbox.builder()
+                        .objectKey(objectKey)
+                        .nextAttemptTime(now)
+                        .build())
+                .toList();
+
+        s3DeleteOutboxRepository.saveAll(s3DeleteOutboxList);
+    }
+
+    // 가져간 키는 다음 시도 시각을 CLAIM_TIMEOUT 뒤로 미뤄 바로 커밋하므로, 행 잠금과 커넥션은 S3 호출 동안 유지되지 않는다.
+    // S3 호출 중 인스턴스가 종료되어도 CLAIM_TIMEOUT 이 지나면 다시 가져간다.
+    @Override
+    @Transactional
+    public List<S3DeleteOutbox> claimDueObjects() {
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeleteOutbox> s3DeleteOutboxList = s3DeleteOutboxRepository.findDueS3DeleteOutboxForUpdate(now, BATCH_SIZE);
+        if (s3DeleteOutboxList.isEmpty())
+            return s3DeleteOutboxList;
+
+        s3DeleteOutboxRepository.updateNextAttemptTime(s3DeleteOutboxList.stream().map(S3DeleteOutbox::getId).toList(), now.plus(CLAIM_TIMEOUT));
+        return s3DeleteOutboxList;
+    }
+
+    // 트랜잭션 밖에서 S3 를 호출하고, 삭제하지 못한 키를 반환한다.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Set<String> deleteObjects(List<S3DeleteOutbox> s3DeleteOutboxList) {
+        List<String> objectKeys = s3DeleteOutboxList.stream().map(S3DeleteOutbox::getObjectKey).toList();
+        try {
+            return s3Service.deleteObjects(objectKeys);
+        } catch (SdkException e) {
+            log.warn("S3 객체 삭제 요청 실패, 재시도 예정 : {}", e.getMessage());
+            return Set.copyOf(objectKeys);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void completeDeletion(List<S3DeleteOutbox> s3DeleteOutboxList, Set<String> failedKeys) {
+        List<Long> completedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (S3DeleteOutbox s3DeleteOutbox : s3DeleteOutboxList) {
+            if (failedKeys.contains(s3DeleteOutbox.getObjectKey()))
+                failedIds.add(s3DeleteOutbox.getId());
+            else
+                completedIds.add(s3DeleteOutbox.getId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (S3DeleteOutbox s3DeleteOutbox : s3DeleteOutboxRepository.findAllById(failedIds)) {
+            s3DeleteOutbox.retryLater(now);
+            if (s3DeleteOutbox.getAttemptCount() >= MAX_ATTEMPT_COUNT) {
+                log.error("S3 객체 삭제 재시도 횟수 초과, 삭제 포기 : {}", s3DeleteOutbox.getObjectKey());
+                completedIds.add(s3DeleteOutbox.getId());
+            }
+        }
+
+        s3DeleteOutboxRepository.deleteAllByIdInBatch(completedIds);
+    }
+}
@@ -3,9 +3,13 @@ package com.artfriendly.artfriendly.domain.s3.service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 public interface S3Service {
     String fileUpLoad(MultipartFile multipartFile) throws IOException;
+    String imageUpLoad(MultipartFile multipartFile) throws IOException;
     String getImageUrl(String fileName);
-    void deleteImageByFileName(String fileName);
+    List<String> getImageObjectKeys(String fileName);
+    Set<String> deleteObjects(List<String> objectKeys);
 }
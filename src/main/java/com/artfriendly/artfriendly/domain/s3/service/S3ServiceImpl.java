@@ -1,5 +1,7 @@
 package com.artfriendly.artfriendly.domain.s3.service;
 
+import com.artfriendly.artfriendly.domain.s3.image.ImageResizer;
+import com.artfriendly.artfriendly.domain.s3.image.ImageVariant;
 import com.artfriendly.artfriendly.global.exception.common.BusinessException;
 import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
 import com.artfriendly.artfriendly.global.utils.GenerateFileName;
@@ -7,20 +9,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetUrlRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Primary
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
     @Value("${file.path.images}")
@@ -30,6 +34,7 @@ public class S3ServiceImpl implements S3Service {
     private String bucket;
 
     private final S3Client s3Client;
+    private final ImageResizer imageResizer;
 
     @Override
     public String fileUpLoad(MultipartFile multipartFile) throws IOException {
@@ -47,12 +52,44 @@ public class S3ServiceImpl implements S3Service {
                 .contentDisposition("inline")
                 .key(fileName)
                 .build();
-        RequestBody requestBody = RequestBody.fromBytes(multipartFile.getBytes());
-        s3Client.putObject(putObjectRequest, requestBody);
+        // 파일 전체를 힙에 복사하지 않고 multipart 임시 파일에서 바로 스트리밍
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            RequestBody requestBody = RequestBody.fromInputStream(inputStream, multipartFile.getSize());
+            s3Client.putObject(putObjectRequest, requestBody);
+        }
 
         return fileName;
     }
 
+    // 원본 대신 고정 크기 변형 이미지만 저장하고, 변형 이미지 키의 기준이 되는 키를 반환
+    @Override
+    public String imageUpLoad(MultipartFile multipartFile) throws IOException {
+        if (multipartFile.isEmpty()) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+
+        String baseKey = imagePath + "/" + GenerateFileName.buildBaseName(multipartFile.getOriginalFilename());
+
+        Map<ImageVariant, byte[]> variants;
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            variants = imageResizer.resize(inputStream);
+        }
+
+        for (Map.Entry<ImageVariant, byte[]> variant : variants.entrySet()) {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .contentType("image/jpeg")
+                    .contentLength((long) variant.getValue().length)
+                    .contentDisposition("inline")
+                    .cacheControl("public, max-age=31536000, immutable") // 키에 업로드 시간이 포함되어 내용이 바뀌지 않음
+                    .key(variant.getKey().keyOf(baseKey))
+                    .build();
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(variant.getValue()));
+        }
+
+        return baseKey;
+    }
+
     @Override
     public String getImageUrl(String fileName) {
         GetUrlRequest getUrlRequest = GetUrlRequest.builder()
@@ -63,14 +100,33 @@ public class S3ServiceImpl implements S3Service {
         return s3Client.utilities().getUrl(getUrlRequest).toString();
     }
 
+    // 기존 원본 키와 변형 이미지 키
     @Override
-    public void deleteImageByFileName(String fileName) {
-        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+    public List<String> getImageObjectKeys(String fileName) {
+        List<String> objectKeys = new ArrayList<>();
+        objectKeys.add(fileName);
+        for (ImageVariant imageVariant : ImageVariant.values()) {
+            objectKeys.add(imageVariant.keyOf(fileName));
+        }
+        return objectKeys;
+    }
+
+    // 최대 1000개 키를 한 번의 요청으로 삭제하고 실패한 키를 반환 (없는 키는 성공으로 처리된다)
+    @Override
+    public Set<String> deleteObjects(List<String> objectKeys) {
+        List<ObjectIdentifier> objectIdentifiers = objectKeys.stream()
+                .map(objectKey -> ObjectIdentifier.builder().key(objectKey).build())
+                .toList();
+
+        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
                 .bucket(bucket)
-                .key(fileName)
+                .delete(Delete.builder().objects(objectIdentifiers).quiet(true).build())
                 .build();
 
-        s3Client.deleteObject(deleteObjectRequest);
+        DeleteObjectsResponse deleteObjectsResponse = s3Client.deleteObjects(deleteObjectsRequest);
+        return deleteObjectsResponse.errors().stream()
+                .map(S3Error::key)
+                .collect(Collectors.toSet());
     }
 
     public String getFileName(MultipartFile multipartFile) {
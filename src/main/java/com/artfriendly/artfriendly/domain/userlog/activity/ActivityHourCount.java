@@ -0,0 +1,8 @@
+package com.artfriendly.artfriendly.domain.userlog.activity;
+
+public record ActivityHourCount(
+        ActivityType activityType,
+        long epochHour,
+        long count
+) {
+}
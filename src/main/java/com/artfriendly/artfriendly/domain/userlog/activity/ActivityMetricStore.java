@@ -0,0 +1,115 @@
+package com.artfriendly.artfriendly.domain.userlog.activity;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 활동 종류별 분 단위(최근 24시간), 시간 단위(최근 7일) 카운터
+// 지난 시간 구간은 UserLogService 가 activity_log 테이블로 옮기고, 일 단위 조회는 그 테이블을 사용한다.
+@Component
+public class ActivityMetricStore {
+    public static final int MINUTE_SLOT_COUNT = 24 * 60;
+    public static final int HOUR_SLOT_COUNT = 7 * 24;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    private final Ring[] minuteRings = new Ring[ActivityType.values().length];
+    private final Ring[] hourRings = new Ring[ActivityType.values().length];
+    private long lastCompactedHour;
+
+    public ActivityMetricStore() {
+        for (int i = 0; i < minuteRings.length; i++) {
+            minuteRings[i] = new Ring(MINUTE_SLOT_COUNT);
+            hourRings[i] = new Ring(HOUR_SLOT_COUNT);
+        }
+        // 재시작 이전 구간은 이미 DB 에 있으므로 현재 시간부터 집계
+        this.lastCompactedHour = currentEpochHour() - 1;
+    }
+
+    public void record(ActivityType activityType) {
+        long now = System.currentTimeMillis();
+        minuteRings[activityType.ordinal()].increment(now / MILLIS_PER_MINUTE);
+        hourRings[activityType.ordinal()].increment(now / MILLIS_PER_HOUR);
+    }
+
+    // toEpochMinute 까지 size 개 구간, 오래된 순
+    public long[] getMinuteCounts(ActivityType activityType, long toEpochMinute, int size) {
+        return minuteRings[activityType.ordinal()].getCounts(toEpochMinute, size);
+    }
+
+    public long[] getHourCounts(ActivityType activityType, long toEpochHour, int size) {
+        return hourRings[activityType.ordinal()].getCounts(toEpochHour, size);
+    }
+
+    // 아직 DB 로 옮기지 않은 untilEpochHour 이전 시간 구간 (0건 제외)
+    public synchronized List<ActivityHourCount> getUncompactedHourCounts(long untilEpochHour) {
+        List<ActivityHourCount> hourCounts = new ArrayList<>();
+        long fromEpochHour = Math.max(lastCompactedHour + 1, untilEpochHour - HOUR_SLOT_COUNT);
+        for (ActivityType activityType : ActivityType.values()) {
+            Ring ring = hourRings[activityType.ordinal()];
+            for (long epochHour = fromEpochHour; epochHour < untilEpochHour; epochHour++) {
+                long count = ring.get(epochHour);
+                if (count > 0)
+                    hourCounts.add(new ActivityHourCount(activityType, epochHour, count));
+            }
+        }
+        return hourCounts;
+    }
+
+    public synchronized void markCompacted(long untilEpochHour) {
+        lastCompactedHour = Math.max(lastCompactedHour, untilEpochHour - 1);
+    }
+
+    public static long currentEpochMinute() {
+        return System.currentTimeMillis() / MILLIS_PER_MINUTE;
+    }
+
+    public static long currentEpochHour() {
+        return System.currentTimeMillis() / MILLIS_PER_HOUR;
+    }
+
+    // 슬롯마다 어느 구간의 값인지 stamp 로 기록하고, 구간이 바뀌면 처음 기록하는 스레드가 0으로 초기화한다.
+    // 대시보드 용도이므로 구간이 바뀌는 순간 동시에 들어온 몇 건이 유실되는 것은 허용한다.
+    private static final class Ring {
+        private final AtomicLongArray counts;
+        private final AtomicLongArray stamps;
+
+        private Ring(int slotCount) {
+            this.counts = new AtomicLongArray(slotCount);
+            this.stamps = new AtomicLongArray(slotCount);
+        }
+
+        private void increment(long unit) {
+            int slot = slotOf(unit);
+            long stamp = stamps.get(slot);
+            if (stamp != unit) {
+                if (stamp > unit)
+                    return;
+                if (stamps.compareAndSet(slot, stamp, unit))
+                    counts.set(slot, 0);
+            }
+            counts.incrementAndGet(slot);
+        }
+
+        private long get(long unit) {
+            int slot = slotOf(unit);
+            long count = counts.get(slot);
+            return stamps.get(slot) == unit ? count : 0;
+        }
+
+        private long[] getCounts(long toUnit, int size) {
+            int length = Math.min(size, counts.length());
+            long[] result = new long[length];
+            for (int i = 0; i < length; i++) {
+                result[i] = get(toUnit - length + 1 + i);
+            }
+            return result;
+        }
+
+        private int slotOf(long unit) {
+            return (int) Math.floorMod(unit, (long) counts.length());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.artfriendly.artfriendly.domain.userlog.activity;
+
+public enum ActivityType {
+    LOGIN,
+    EXHIBITION_VIEW,
+    EXHIBITION_LIKE,
+    EXHIBITION_HOPE,
+    DAMBYEOLAG_WRITE,
+    STICKER
+}
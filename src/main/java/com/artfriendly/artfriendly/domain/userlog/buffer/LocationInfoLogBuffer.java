@@ -0,0 +1,154 @@
+package com.artfriendly.artfriendly.domain.userlog.buffer;
+
+import com.artfriendly.artfriendly.global.exception.common.BusinessException;
+import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 위치 정보 로그를 요청 스레드에서는 큐에 넣기만 하고, 주기적으로 또는 일정 개수가 쌓이면 여러 행을 한 번에 INSERT 한다.
+@Slf4j
+@Component
+public class LocationInfoLogBuffer {
+    public static final int BATCH_SIZE = 500;
+    private static final int CAPACITY = 10000;
+
+    private final BlockingQueue<LocationInfoLogEntry> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final String fullBatchSql = buildInsertSql(BATCH_SIZE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor locationLogFlushExecutor;
+    private final Counter enqueuedCounter;
+    private final Counter queueFullCounter;
+    private final Counter flushFailedCounter;
+    private final Counter invalidRowCounter;
+    private final Counter flushedCounter;
+    private final Timer flushTimer;
+
+    public LocationInfoLogBuffer(JdbcTemplate jdbcTemplate,
+                                 @Qualifier("locationLogFlushExecutor") TaskExecutor locationLogFlushExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.locationLogFlushExecutor = locationLogFlushExecutor;
+        this.enqueuedCounter = meterRegistry.counter("location.log.enqueued");
+        this.queueFullCounter = meterRegistry.counter("location.log.dropped", "reason", "queue_full");
+        this.flushFailedCounter = meterRegistry.counter("location.log.dropped", "reason", "flush_failed");
+        this.invalidRowCounter = meterRegistry.counter("location.log.dropped", "reason", "invalid_row");
+        this.flushedCounter = meterRegistry.counter("location.log.flushed");
+        this.flushTimer = meterRegistry.timer("location.log.flush");
+        Gauge.builder("location.log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    // 큐가 가득 차면 기다리지 않고 503 으로 거절
+    public void enqueue(long memberId) {
+        if (!queue.offer(new LocationInfoLogEntry(memberId, LocalDateTime.now()))) {
+            queueFullCounter.increment();
+            throw new BusinessException(ErrorCode.LOCATION_LOG_QUEUE_FULL);
+        }
+        enqueuedCounter.increment();
+
+        if (queue.size() >= BATCH_SIZE && flushRequested.compareAndSet(false, true))
+            locationLogFlushExecutor.execute(this::flush);
+    }
+
+    // 큐를 비울 때까지 BATCH_SIZE 단위로 저장, 저장한 행 수 반환
+    public int flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            int flushedCount = 0;
+            List<LocationInfoLogEntry> entries = new ArrayList<>(BATCH_SIZE);
+            while (queue.drainTo(entries, BATCH_SIZE) > 0) {
+                flushedCount += insertEntries(entries);
+                entries.clear();
+            }
+            return flushedCount;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushedCount = flush();
+        log.info("종료 전 위치 정보 로그 저장 : {}건", flushedCount);
+    }
+
+    private int insertEntries(List<LocationInfoLogEntry> entries) {
+        String sql = entries.size() == BATCH_SIZE ? fullBatchSql : buildInsertSql(entries.size());
+        Object[] params = new Object[entries.size() * 3];
+        int index = 0;
+        for (LocationInfoLogEntry entry : entries) {
+            Timestamp createTime = Timestamp.valueOf(entry.createTime());
+            params[index++] = entry.memberId();
+            params[index++] = createTime;
+            params[index++] = createTime;
+        }
+
+        try {
+            flushTimer.record(() -> jdbcTemplate.update(sql, params));
+            flushedCounter.increment(entries.size());
+            return entries.size();
+        } catch (DataIntegrityViolationException e) {
+            // 탈퇴한 회원 등 FK 위반 행이 하나라도 있으면 배치 전체가 실패하므로, 한 행씩 다시 넣어 해당 행만 버린다.
+            log.warn("위치 정보 로그 배치 저장 실패, 한 건씩 다시 저장 : {}건, {}", entries.size(), e.getMessage());
+            return insertEntriesOneByOne(entries);
+        } catch (DataAccessException e) {
+            flushFailedCounter.increment(entries.size());
+            log.error("위치 정보 로그 저장 실패 : {}건 유실, {}", entries.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private int insertEntriesOneByOne(List<LocationInfoLogEntry> entries) {
+        String sql = buildInsertSql(1);
+        int insertedCount = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            LocationInfoLogEntry entry = entries.get(i);
+            Timestamp createTime = Timestamp.valueOf(entry.createTime());
+            try {
+                jdbcTemplate.update(sql, entry.memberId(), createTime, createTime);
+                insertedCount++;
+            } catch (DataIntegrityViolationException e) {
+                invalidRowCounter.increment();
+                log.debug("위치 정보 로그 저장 제외 : memberId={}, {}", entry.memberId(), e.getMessage());
+            } catch (DataAccessException e) {
+                flushFailedCounter.increment(entries.size() - i);
+                log.error("위치 정보 로그 저장 실패 : {}건 유실, {}", entries.size() - i, e.getMessage());
+                break;
+            }
+        }
+        flushedCounter.increment(insertedCount);
+        return insertedCount;
+    }
+
+    private static String buildInsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder("INSERT INTO location_info_log (member_id, create_time, last_modified_time) VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0)
+                sql.append(", ");
+            sql.append("(?, ?, ?)");
+        }
+        return sql.toString();
+    }
+}
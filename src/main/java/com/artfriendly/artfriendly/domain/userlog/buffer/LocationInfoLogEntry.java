@@ -0,0 +1,9 @@
+package com.artfriendly.artfriendly.domain.userlog.buffer;
+
+import java.time.LocalDateTime;
+
+public record LocationInfoLogEntry(
+        long memberId,
+        LocalDateTime createTime
+) {
+}
@@ -2,13 +2,17 @@ package com.artfriendly.artfriendly.domain.userlog.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Component;
 
 @Component
-public class DailyUserCountCache {
+public class DailyUserCountCache implements MeterBinder {
     private final Cache<String, Integer> userCountCache = Caffeine.newBuilder()
             .initialCapacity(1)
             .maximumSize(1)
+            .recordStats()
             .build();
 
     public void initCache() {
@@ -26,4 +30,9 @@ public class DailyUserCountCache {
     public int getDailyUserCount() {
         return userCountCache.getIfPresent("daily_user_count");
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, userCountCache, "dailyUserCountCache");
+    }
 }
@@ -1,15 +1,22 @@
 package com.artfriendly.artfriendly.domain.userlog.controller;
 
+import com.artfriendly.artfriendly.domain.userlog.dto.ActivityCountRspDto;
 import com.artfriendly.artfriendly.domain.userlog.service.UserLogService;
 import com.artfriendly.artfriendly.global.api.RspTemplate;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("userlogs")
 @RequiredArgsConstructor
@@ -20,6 +27,22 @@ public class UserLogController {
     public RspTemplate<Void> createLocationInfoLog(@AuthenticationPrincipal long memberId) {
         userLogService.createLocationInfoLog(memberId);
 
-        return new RspTemplate<>(HttpStatus.CREATED, "위치 정보 로그 저장 완료");
+        return new RspTemplate<>(HttpStatus.ACCEPTED, "위치 정보 로그 저장 요청 완료");
+    }
+
+    @GetMapping("/activities")
+    public RspTemplate<List<ActivityCountRspDto>> getRecentActivityCounts(@RequestParam(defaultValue = "minute") String unit,
+                                                                          @RequestParam(defaultValue = "60") int size) {
+        List<ActivityCountRspDto> activityCountRspDtoList = userLogService.getRecentActivityCountRspDtoList(unit, size);
+
+        return new RspTemplate<>(HttpStatus.OK, "최근 활동 통계 조회", activityCountRspDtoList);
+    }
+
+    @GetMapping("/activities/daily")
+    public RspTemplate<List<ActivityCountRspDto>> getDailyActivityCounts(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<ActivityCountRspDto> activityCountRspDtoList = userLogService.getDailyActivityCountRspDtoList(startDate, endDate);
+
+        return new RspTemplate<>(HttpStatus.OK, "일별 활동 통계 조회", activityCountRspDtoList);
     }
 }
@@ -0,0 +1,9 @@
+package com.artfriendly.artfriendly.domain.userlog.dto;
+
+import java.time.LocalDateTime;
+
+public record ActivityBucketRspDto(
+        LocalDateTime bucketTime,
+        long count
+) {
+}
@@ -0,0 +1,11 @@
+package com.artfriendly.artfriendly.domain.userlog.dto;
+
+import com.artfriendly.artfriendly.domain.userlog.activity.ActivityType;
+
+import java.util.List;
+
+public record ActivityCountRspDto(
+        ActivityType activityType,
+        List<ActivityBucketRspDto> buckets
+) {
+}
@@ -0,0 +1,31 @@
+package com.artfriendly.artfriendly.domain.userlog.entity;
+
+import com.artfriendly.artfriendly.domain.userlog.activity.ActivityType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 활동 종류별 1시간 단위 집계, ActivityMetricStore 에서 옮겨 저장한다.
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_activity_log_type_bucket", columnNames = {"activity_type", "bucket_time"}),
+        indexes = @Index(name = "idx_activity_log_bucket_time", columnList = "bucket_time"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityLog {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ActivityType activityType;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketTime;
+
+    @Column(nullable = false)
+    private long activityCount;
+}
@@ -0,0 +1,36 @@
+package com.artfriendly.artfriendly.domain.userlog.repository;
+
+import com.artfriendly.artfriendly.domain.userlog.entity.ActivityLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
+    // 종료 직전 저장한 구간을 재시작 후 다시 저장해도 합산되도록 누적 (MySQL)
+    @Modifying
+    @Query(value = "INSERT INTO activity_log (activity_type, bucket_time, activity_count) " +
+            "VALUES (:activityType, :bucketTime, :activityCount) " +
+            "ON DUPLICATE KEY UPDATE activity_count = activity_count + VALUES(activity_count)",
+            nativeQuery = true)
+    void upsertActivityCount(@Param("activityType") String activityType,
+                             @Param("bucketTime") LocalDateTime bucketTime,
+                             @Param("activityCount") long activityCount);
+
+    @Query(value = "SELECT a.activity_type AS activityType, DATE(a.bucket_time) AS activityDate, SUM(a.activity_count) AS activityCount " +
+            "FROM activity_log a " +
+            "WHERE a.bucket_time >= :from AND a.bucket_time < :to " +
+            "GROUP BY a.activity_type, DATE(a.bucket_time)",
+            nativeQuery = true)
+    List<ActivityDailyCount> findDailyActivityCount(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface ActivityDailyCount {
+        String getActivityType();
+        LocalDate getActivityDate();
+        long getActivityCount();
+    }
+}
@@ -1,28 +1,51 @@
 package com.artfriendly.artfriendly.domain.userlog.service;
 
-import com.artfriendly.artfriendly.domain.member.entity.Member;
-import com.artfriendly.artfriendly.domain.member.service.MemberService;
+import com.artfriendly.artfriendly.domain.userlog.activity.ActivityHourCount;
+import com.artfriendly.artfriendly.domain.userlog.activity.ActivityMetricStore;
+import com.artfriendly.artfriendly.domain.userlog.activity.ActivityType;
+import com.artfriendly.artfriendly.domain.userlog.buffer.LocationInfoLogBuffer;
 import com.artfriendly.artfriendly.domain.userlog.cache.DailyUserCountCache;
+import com.artfriendly.artfriendly.domain.userlog.dto.ActivityBucketRspDto;
+import com.artfriendly.artfriendly.domain.userlog.dto.ActivityCountRspDto;
 import com.artfriendly.artfriendly.domain.userlog.entity.DailyUserLog;
-import com.artfriendly.artfriendly.domain.userlog.entity.LocationInfoLog;
+import com.artfriendly.artfriendly.domain.userlog.repository.ActivityLogRepository;
 import com.artfriendly.artfriendly.domain.userlog.repository.DailyUserCountRepository;
-import com.artfriendly.artfriendly.domain.userlog.repository.LocationInfoLogRepository;
+import com.artfriendly.artfriendly.global.exception.common.BusinessException;
+import com.artfriendly.artfriendly.global.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserLogService {
+    private static final int MAX_ACTIVITY_DAY_COUNT = 366;
+    // 컨테이너 기본 시간대(UTC)와 관계없이 일별 집계와 구간 시각은 한국 시간 기준
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
     private final DailyUserCountCache dailyUserCountCache;
     private final DailyUserCountRepository dailyUserCountRepository;
-    private final MemberService memberService;
-    private final LocationInfoLogRepository locationInfoLogRepository;
+    private final LocationInfoLogBuffer locationInfoLogBuffer;
+    private final ActivityMetricStore activityMetricStore;
+    private final ActivityLogRepository activityLogRepository;
 
     public void upUserCount() {
         dailyUserCountCache.upDailyUserCount();
+        activityMetricStore.record(ActivityType.LOGIN);
+    }
 
+    public void recordActivity(ActivityType activityType) {
+        activityMetricStore.record(activityType);
     }
 
     public void resetDailyUserCountCache() {
@@ -39,14 +62,91 @@ public class UserLogService {
         dailyUserCountRepository.save(dailyUserLog);
     }
 
-    @Transactional
+    // 요청 스레드에서는 큐에 넣기만 하고 저장은 LocationInfoLogBuffer 가 배치로 처리
     public void createLocationInfoLog(long memberId) {
-        Member member = memberService.findById(memberId);
+        locationInfoLogBuffer.enqueue(memberId);
+    }
 
-        LocationInfoLog locationInfoLog = LocationInfoLog.builder()
-                .member(member)
-                .build();
+    // 최근 분/시간 단위 활동 수, 메모리 카운터에서 바로 조회
+    public List<ActivityCountRspDto> getRecentActivityCountRspDtoList(String unit, int size) {
+        List<ActivityCountRspDto> activityCountRspDtoList = new ArrayList<>();
+        switch (unit) {
+            case "minute" -> {
+                long toEpochMinute = ActivityMetricStore.currentEpochMinute();
+                int length = Math.max(1, Math.min(size, ActivityMetricStore.MINUTE_SLOT_COUNT));
+                for (ActivityType activityType : ActivityType.values()) {
+                    long[] counts = activityMetricStore.getMinuteCounts(activityType, toEpochMinute, length);
+                    activityCountRspDtoList.add(toActivityCountRspDto(activityType, counts, toEpochMinute - length + 1, Duration.ofMinutes(1)));
+                }
+            }
+            case "hour" -> {
+                long toEpochHour = ActivityMetricStore.currentEpochHour();
+                int length = Math.max(1, Math.min(size, ActivityMetricStore.HOUR_SLOT_COUNT));
+                for (ActivityType activityType : ActivityType.values()) {
+                    long[] counts = activityMetricStore.getHourCounts(activityType, toEpochHour, length);
+                    activityCountRspDtoList.add(toActivityCountRspDto(activityType, counts, toEpochHour - length + 1, Duration.ofHours(1)));
+                }
+            }
+            default -> throw new BusinessException(ErrorCode.ACTIVITY_UNIT_NOT_FOUND);
+        }
+        return activityCountRspDtoList;
+    }
+
+    // 일 단위 활동 수, 시간 단위 집계 테이블과 아직 옮기지 않은 메모리 구간을 합산
+    public List<ActivityCountRspDto> getDailyActivityCountRspDtoList(LocalDate startDate, LocalDate endDate) {
+        long dayCount = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (dayCount < 1 || dayCount > MAX_ACTIVITY_DAY_COUNT)
+            throw new BusinessException(ErrorCode.INVALID_ACTIVITY_PERIOD);
+
+        long[][] counts = new long[ActivityType.values().length][(int) dayCount];
+
+        List<ActivityLogRepository.ActivityDailyCount> dailyCountList =
+                activityLogRepository.findDailyActivityCount(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+        for (ActivityLogRepository.ActivityDailyCount dailyCount : dailyCountList) {
+            int day = (int) ChronoUnit.DAYS.between(startDate, dailyCount.getActivityDate());
+            counts[ActivityType.valueOf(dailyCount.getActivityType()).ordinal()][day] += dailyCount.getActivityCount();
+        }
+
+        for (ActivityHourCount hourCount : activityMetricStore.getUncompactedHourCounts(ActivityMetricStore.currentEpochHour() + 1)) {
+            LocalDate date = toLocalDateTime(hourCount.epochHour(), Duration.ofHours(1)).toLocalDate();
+            if (date.isBefore(startDate) || date.isAfter(endDate))
+                continue;
+            counts[hourCount.activityType().ordinal()][(int) ChronoUnit.DAYS.between(startDate, date)] += hourCount.count();
+        }
+
+        List<ActivityCountRspDto> activityCountRspDtoList = new ArrayList<>();
+        for (ActivityType activityType : ActivityType.values()) {
+            List<ActivityBucketRspDto> buckets = new ArrayList<>((int) dayCount);
+            for (int day = 0; day < dayCount; day++) {
+                buckets.add(new ActivityBucketRspDto(startDate.plusDays(day).atStartOfDay(), counts[activityType.ordinal()][day]));
+            }
+            activityCountRspDtoList.add(new ActivityCountRspDto(activityType, buckets));
+        }
+        return activityCountRspDtoList;
+    }
+
+    // 지난 시간 구간을 activity_log 로 옮긴다. 종료 시에는 진행 중인 현재 시간 구간까지 포함
+    @Transactional
+    public void compactActivityMetrics(boolean includeCurrentHour) {
+        long untilEpochHour = ActivityMetricStore.currentEpochHour() + (includeCurrentHour ? 1 : 0);
+        for (ActivityHourCount hourCount : activityMetricStore.getUncompactedHourCounts(untilEpochHour)) {
+            activityLogRepository.upsertActivityCount(
+                    hourCount.activityType().name(),
+                    toLocalDateTime(hourCount.epochHour(), Duration.ofHours(1)),
+                    hourCount.count());
+        }
+        activityMetricStore.markCompacted(untilEpochHour);
+    }
+
+    private ActivityCountRspDto toActivityCountRspDto(ActivityType activityType, long[] counts, long fromUnit, Duration unit) {
+        List<ActivityBucketRspDto> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            buckets.add(new ActivityBucketRspDto(toLocalDateTime(fromUnit + i, unit), counts[i]));
+        }
+        return new ActivityCountRspDto(activityType, buckets);
+    }
 
-        locationInfoLogRepository.save(locationInfoLog);
+    private LocalDateTime toLocalDateTime(long epochUnit, Duration unit) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochUnit * unit.getSeconds()), ZONE);
     }
 }
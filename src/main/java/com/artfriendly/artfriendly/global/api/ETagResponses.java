@@ -0,0 +1,66 @@
+package com.artfriendly.artfriendly.global.api;
+
+import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static lombok.AccessLevel.PRIVATE;
+
+// 응답 내용으로 만든 강한 ETag 로 조건부 GET 을 처리한다.
+// If-None-Match 가 같으면 304 로 응답하고 컨트롤러는 null 을 반환해 본문 직렬화를 건너뛴다.
+@NoArgsConstructor(access = PRIVATE)
+public class ETagResponses {
+    // 시큐리티 기본값(no-store)이면 클라이언트가 응답을 저장하지 않아 재검증 요청을 보내지 않는다.
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    // SHA-256 의 앞 128비트만 사용
+    private static final int ETAG_BYTES = 16;
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    // 직렬화한 바이트의 다이제스트라 내용이 다르면 사실상 항상 다른 값이 되고, 서버 인스턴스와 재시작에 관계없이 같다.
+    public static String strongETag(byte[] content) {
+        byte[] digest = sha256().digest(content);
+        return "\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+    }
+
+    // 같은 내용이라도 gzip 본은 바이트가 다르므로 강한 ETag 를 구분한다. "<tag>" -> "<tag>-gzip"
+    public static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    // 클라이언트가 받아 둔 것이 원본이든 gzip 본이든 내용이 같으면 304 로 응답한다.
+    public static boolean isNotModified(ServletWebRequest webRequest, String eTag) {
+        if (eTag == null)
+            return false;
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        String gzipETag = gzipETag(eTag);
+        if (containsETag(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH), gzipETag))
+            return webRequest.checkNotModified(gzipETag);
+        return webRequest.checkNotModified(eTag);
+    }
+
+    private static boolean containsETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null)
+            return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/"))
+                candidate = candidate.substring(2);
+            if (candidate.equals(eTag))
+                return true;
+        }
+        return false;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
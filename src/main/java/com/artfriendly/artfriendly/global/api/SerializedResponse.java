@@ -0,0 +1,44 @@
+package com.artfriendly.artfriendly.global.api;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+// RspTemplate 까지 감싼 응답 본문의 UTF-8 JSON 바이트와, 바이트를 만들 때 사용한 원본 내용, 본문 바이트로 만든 ETag
+// gzip 은 압축 기준 크기 이상인 항목만 캐시에 넣을 때 한 번 만들어 두고, 없으면 null
+public record SerializedResponse(
+        Object content,
+        String eTag,
+        byte[] json,
+        byte[] gzip
+) {
+    public ResponseEntity<byte[]> toResponseEntity(WebRequest webRequest) {
+        boolean useGzip = gzip != null && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder bodyBuilder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (!useGzip)
+            return bodyBuilder.eTag(eTag).contentLength(json.length).body(json);
+
+        // Content-Encoding 이 이미 있으면 Tomcat 은 다시 압축하지 않는다.
+        return bodyBuilder
+                .eTag(ETagResponses.gzipETag(eTag))
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .contentLength(gzip.length)
+                .body(gzip);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null)
+            return false;
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip"))
+                continue;
+            // gzip;q=0 은 거부 의사
+            return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+}
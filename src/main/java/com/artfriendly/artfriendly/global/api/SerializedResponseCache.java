@@ -0,0 +1,96 @@
+package com.artfriendly.artfriendly.global.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// 조회 응답을 직렬화된 바이트로 보관해, 적중하면 Jackson 직렬화와 ETag 계산 없이 그대로 쓴다.
+// 회원마다 내용이 다른 응답은 키에 회원 id 를 넣는다. 항목 수가 회원 수에 비례하므로 개수가 아니라 바이트 크기로 제한한다.
+// 객체 캐시를 대신하지 않고 그 옆에 두며, 객체 캐시 내용이 바뀌면 다음 요청에서 한 번만 다시 직렬화한다.
+// 압축 기준 크기 이상이면 gzip 본도 함께 만들어 두어 압축 비용도 요청마다가 아니라 캐시를 채울 때 한 번만 든다.
+@Component
+public class SerializedResponseCache implements MeterBinder {
+    private final ObjectMapper objectMapper;
+    private static final long MAX_WEIGHT_BYTES = 32L * 1024 * 1024;
+
+    private final int gzipMinSize;
+    private final Cache<String, SerializedResponse> serializedResponses = Caffeine.newBuilder()
+            .initialCapacity(20)
+            .maximumWeight(MAX_WEIGHT_BYTES)
+            .<String, SerializedResponse>weigher((key, serializedResponse) ->
+                    serializedResponse.json().length + (serializedResponse.gzip() == null ? 0 : serializedResponse.gzip().length))
+            .recordStats()
+            .build();
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   @Value("${server.compression.min-response-size:1KB}") DataSize gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = (int) gzipMinSize.toBytes();
+    }
+
+    // content 는 응답 본문을 만드는 객체 캐시의 내용으로, 보관한 내용과 equals 로 비교해 같으면 보관한 바이트를 쓴다.
+    // 응답 DTO 는 record 라 필드 단위로 비교되므로 해시 충돌로 이전 본문이 나가는 일이 없다. null 이면 캐시하지 않고 매번 직렬화한다.
+    public SerializedResponse get(String key, Object content, Supplier<RspTemplate<?>> rspTemplateSupplier) {
+        if (content == null) {
+            byte[] json = serialize(rspTemplateSupplier.get());
+            return new SerializedResponse(null, ETagResponses.strongETag(json), json, null);
+        }
+
+        SerializedResponse serializedResponse = serializedResponses.getIfPresent(key);
+        if (serializedResponse != null && content.equals(serializedResponse.content()))
+            return serializedResponse;
+
+        byte[] json = serialize(rspTemplateSupplier.get());
+        serializedResponse = new SerializedResponse(content, ETagResponses.strongETag(json), json,
+                json.length >= gzipMinSize ? gzip(json) : null);
+        serializedResponses.put(key, serializedResponse);
+        return serializedResponse;
+    }
+
+    private byte[] serialize(RspTemplate<?> rspTemplate) {
+        try {
+            return objectMapper.writeValueAsBytes(rspTemplate);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    // 한 번만 압축하므로 최고 압축률을 사용한다.
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new BestCompressionGZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, serializedResponses, "serializedResponseCache");
+    }
+
+    // GZIPOutputStream 은 압축 수준을 받는 생성자가 없어, 보호 필드인 Deflater 의 수준을 바꾼다.
+    private static class BestCompressionGZIPOutputStream extends GZIPOutputStream {
+        BestCompressionGZIPOutputStream(OutputStream outputStream) throws IOException {
+            super(outputStream);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
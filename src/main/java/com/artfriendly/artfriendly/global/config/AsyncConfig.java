@@ -0,0 +1,50 @@
+package com.artfriendly.artfriendly.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+    // 가상 스레드 모드에서는 스레드 팩토리만 바꾼다. 풀 크기와 큐 용량이 곧 동시 실행 제한이므로 그대로 둔다.
+    private static final int MEMBER_DELETION_POOL_SIZE = 2;
+    private static final int MEMBER_DELETION_QUEUE_CAPACITY = 500;
+
+    // 큐가 가득 차면 버리고 로그만 남긴다. 작업 행은 DB 에 남아 있으므로 MemberDeletionScheduler 가 처리한다.
+    @Bean
+    public ThreadPoolTaskExecutor memberDeletionExecutor(Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(MEMBER_DELETION_POOL_SIZE);
+        executor.setMaxPoolSize(MEMBER_DELETION_POOL_SIZE);
+        executor.setQueueCapacity(MEMBER_DELETION_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("MemberDeletion-");
+        if (VirtualThreadConfig.isVirtualThreadActive(environment))
+            executor.setThreadFactory(VirtualThreadConfig.virtualThreadFactory("MemberDeletion-"));
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) ->
+                log.warn("탈퇴 회원 정리 실행기 포화, 스케줄러에서 재시도"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 위치 정보 로그 배치 저장용, 이미 대기 중인 저장이 있으면 새 요청은 버린다.
+    @Bean
+    public ThreadPoolTaskExecutor locationLogFlushExecutor(Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("LocationLogFlush-");
+        if (VirtualThreadConfig.isVirtualThreadActive(environment))
+            executor.setThreadFactory(VirtualThreadConfig.virtualThreadFactory("LocationLogFlush-"));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+}
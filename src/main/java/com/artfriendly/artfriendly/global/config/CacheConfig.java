@@ -1,37 +1,54 @@
 package com.artfriendly.artfriendly.global.config;
 
+import com.artfriendly.artfriendly.global.metrics.MeteredCaffeineCacheManager;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import java.util.concurrent.TimeUnit;
 
+// 캐시 적중률/제거 수는 cache.gets, cache.evictions 메트릭으로 노출한다.
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
-    @Bean(name = "endingExhibitionCache")
-    public CacheManager endingExhibitionCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    @Primary
+    @Bean(name = "exhibitionCache")
+    public CacheManager exhibitionCacheManager(MeterRegistry meterRegistry) {
+        MeteredCaffeineCacheManager cacheManager = new MeteredCaffeineCacheManager("exhibitionCache", meterRegistry);
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(15, TimeUnit.MINUTES)
-                .initialCapacity(30)  // 초기 캐시 사이즈
-                .maximumSize(1000));    // 최대 캐시 사이즈
+                .initialCapacity(40)  // 초기 캐시 사이즈
+                .maximumSize(2000)    // 최대 캐시 사이즈
+                .recordStats());
         return cacheManager;
     }
 
-    @Primary
-    @Bean(name = "exhibitionCache")
-    public CacheManager exhibitionCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    // 축제는 배치로만 갱신되므로 짧은 TTL로 만료시키고 변경 시 전체 무효화는 하지 않는다.
+    @Bean(name = "festivalCache")
+    public CacheManager festivalCacheManager(MeterRegistry meterRegistry) {
+        MeteredCaffeineCacheManager cacheManager = new MeteredCaffeineCacheManager("festivalCache", meterRegistry);
         cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(15, TimeUnit.MINUTES)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .initialCapacity(20)  // 초기 캐시 사이즈
+                .maximumSize(1000)    // 최대 캐시 사이즈
+                .recordStats());
+        return cacheManager;
+    }
+
+    // 카탈로그는 10분마다 동기화되며 동기화 시 전체 무효화
+    @Bean(name = "eventCatalogCache")
+    public CacheManager eventCatalogCacheManager(MeterRegistry meterRegistry) {
+        MeteredCaffeineCacheManager cacheManager = new MeteredCaffeineCacheManager("eventCatalogCache", meterRegistry);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(10, TimeUnit.MINUTES)
                 .initialCapacity(40)  // 초기 캐시 사이즈
-                .maximumSize(2000));    // 최대 캐시 사이즈
+                .maximumSize(2000)    // 최대 캐시 사이즈
+                .recordStats());
         return cacheManager;
     }
 }
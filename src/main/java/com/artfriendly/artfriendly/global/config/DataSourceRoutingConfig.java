@@ -0,0 +1,64 @@
+package com.artfriendly.artfriendly.global.config;
+
+import com.artfriendly.artfriendly.global.datasource.DataSourceRoute;
+import com.artfriendly.artfriendly.global.datasource.RecentWriteTracker;
+import com.artfriendly.artfriendly.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+// datasource.routing.enabled=true 일 때만 primary/replica 두 풀을 만든다.
+// primary 는 기존 spring.datasource 설정을 그대로 사용하고, replica 는 datasource.replica 설정을 사용한다.
+// 풀 이름(primary, replica)이 hikaricp 메트릭의 pool 태그가 된다.
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public RecentWriteTracker recentWriteTracker(@Value("${datasource.routing.read-your-writes-window:3s}") Duration readYourWritesWindow) {
+        return new RecentWriteTracker(readYourWritesWindow);
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 RecentWriteTracker recentWriteTracker) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(recentWriteTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있다.
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
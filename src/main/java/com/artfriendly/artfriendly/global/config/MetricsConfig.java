@@ -0,0 +1,16 @@
+package com.artfriendly.artfriendly.global.config;
+
+import com.artfriendly.artfriendly.global.metrics.HandlerServerRequestObservationConvention;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 엔드포인트 지연 시간 히스토그램과 SLO 구간은 application.yml 의 management.metrics.distribution 에서 설정한다.
+// 리포지토리 메서드 타이머(spring.data.repository.invocations)는 Spring Boot 가 repository, method, state 태그로 기록한다.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HandlerServerRequestObservationConvention handlerServerRequestObservationConvention() {
+        return new HandlerServerRequestObservationConvention();
+    }
+}
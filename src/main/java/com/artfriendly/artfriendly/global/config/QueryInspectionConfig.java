@@ -0,0 +1,36 @@
+package com.artfriendly.artfriendly.global.config;
+
+import com.artfriendly.artfriendly.global.query.QueryCountInspector;
+import com.artfriendly.artfriendly.global.query.QueryInspectionFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Hibernate 가 실행하는 SQL 을 요청 단위로 세는 설정, query-inspection.enabled=false 면 끈다.
+// 느린 쿼리 로그는 spring.jpa.properties.hibernate.log_slow_query 에서 설정한다.
+@Configuration
+@ConditionalOnProperty(name = "query-inspection.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspectionConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryInspectionFilter> queryInspectionFilter(MeterRegistry meterRegistry,
+                                                                               @Value("${query-inspection.max-statements-per-request:20}") int maxStatementsPerRequest,
+                                                                               @Value("${query-inspection.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        FilterRegistrationBean<QueryInspectionFilter> registrationBean = new FilterRegistrationBean<>(
+                new QueryInspectionFilter(meterRegistry, maxStatementsPerRequest, repeatedStatementThreshold));
+        // 시큐리티 필터보다 먼저 실행해 인증 과정의 SQL 도 함께 센다.
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registrationBean;
+    }
+}
@@ -3,9 +3,13 @@ package com.artfriendly.artfriendly.global.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
 
 @Configuration
 public class S3Config {
@@ -16,14 +20,23 @@ public class S3Config {
     @Value("${cloud.aws.credentials.secret-key}")
     private String secretKey;
 
+    // 로컬 S3 호환 서버(MinIO, LocalStack 등)를 사용할 때만 설정
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     private String region = "ap-northeast-2";
 
     @Bean
     public S3Client s3Client() {
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                 .credentialsProvider(this::awsCredentials)
-                .region(Region.of(region))
-                .build();
+                .region(Region.of(region));
+
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true);
+        }
+        return builder.build();
     }
 
     private AwsCredentials awsCredentials() {
@@ -1,6 +1,8 @@
 package com.artfriendly.artfriendly.global.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -8,13 +10,21 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 @EnableScheduling
 @Configuration
+@RequiredArgsConstructor
 public class SchedulerConfig implements SchedulingConfigurer {
     private static final int POOL_SIZE = 3;
+    private static final String THREAD_NAME_PREFIX = "ExhibitionApi Integration";
+
+    private final Environment environment;
+
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         final ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
         threadPoolTaskScheduler.setPoolSize(POOL_SIZE);
-        threadPoolTaskScheduler.setThreadNamePrefix("ExhibitionApi Integration");
+        threadPoolTaskScheduler.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        // 가상 스레드 모드에서도 fixedDelay 작업끼리 서로 막지 않도록 풀 크기는 유지하고 스레드만 바꾼다.
+        if (VirtualThreadConfig.isVirtualThreadActive(environment))
+            threadPoolTaskScheduler.setThreadFactory(VirtualThreadConfig.virtualThreadFactory(THREAD_NAME_PREFIX + "-"));
         threadPoolTaskScheduler.initialize();
 
         taskRegistrar.setTaskScheduler(threadPoolTaskScheduler);
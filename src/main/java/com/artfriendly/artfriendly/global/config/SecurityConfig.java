@@ -53,6 +53,8 @@ public class SecurityConfig {
                         .requestMatchers("/terms/init").hasAnyAuthority("ROLE_ADMIN")
                         .requestMatchers("apis/**").hasAnyAuthority("ROLE_ADMIN")
                         .requestMatchers("init/**").hasAnyAuthority("ROLE_ADMIN")
+                        .requestMatchers("catalogs/refresh").hasAnyAuthority("ROLE_ADMIN")
+                        .requestMatchers("userlogs/activities/**").hasAnyAuthority("ROLE_ADMIN")
                         .anyRequest().hasAnyAuthority("ROLE_USER")
                 )
                 .oauth2Login(oauth2 -> oauth2
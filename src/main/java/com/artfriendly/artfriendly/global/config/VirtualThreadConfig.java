@@ -0,0 +1,55 @@
+package com.artfriendly.artfriendly.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+
+// spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행될 때만 가상 스레드를 사용한다.
+// Tomcat 요청 처리는 Spring Boot 가 직접 전환하고, 스케줄러와 @Async 실행기는 스레드 팩토리만 바꿔 풀 크기/큐 제한은 그대로 유지한다.
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class VirtualThreadConfig {
+    private final Environment environment;
+
+    @PostConstruct
+    public void warnIfUnsupported() {
+        boolean enabled = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (enabled && !JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE))
+            log.warn("가상 스레드 설정이 켜져 있지만 현재 Java {} 에서는 지원하지 않아 플랫폼 스레드로 실행합니다.", JavaVersion.getJavaVersion());
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(meterRegistry);
+    }
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 설정 클래스 인스턴스 없이 생성되도록 static 으로 둔다.
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public static VirtualThreadConnectionTimeoutPostProcessor virtualThreadConnectionTimeoutPostProcessor(
+            @Value("${datasource.virtual-thread-connection-timeout:3s}") Duration connectionTimeout) {
+        return new VirtualThreadConnectionTimeoutPostProcessor(connectionTimeout);
+    }
+
+    public static boolean isVirtualThreadActive(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    public static ThreadFactory virtualThreadFactory(String threadNamePrefix) {
+        return new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory();
+    }
+}
@@ -0,0 +1,25 @@
+package com.artfriendly.artfriendly.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.time.Duration;
+
+// 가상 스레드 모드에서는 요청 수가 스레드 수로 제한되지 않으므로 커넥션 풀이 DB 동시 접근 상한이 된다.
+// 풀이 모두 사용 중이면 오래 기다리지 않고 실패시켜 요청이 쌓이지 않게, 모든 Hikari 풀의 커넥션 대기 시간을 줄인다.
+// 플랫폼 스레드 모드는 Tomcat 스레드 수가 동시 요청을 제한하므로 설정값(기본 30초)을 그대로 둔다.
+public class VirtualThreadConnectionTimeoutPostProcessor implements BeanPostProcessor {
+    private final Duration connectionTimeout;
+
+    public VirtualThreadConnectionTimeoutPostProcessor(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    // 설정 바인딩 이후에 적용하고, 풀은 첫 커넥션 요청 때 만들어지므로 아직 변경할 수 있다.
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikariDataSource)
+            hikariDataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        return bean;
+    }
+}
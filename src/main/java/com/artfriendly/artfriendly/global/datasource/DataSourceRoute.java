@@ -0,0 +1,6 @@
+package com.artfriendly.artfriendly.global.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
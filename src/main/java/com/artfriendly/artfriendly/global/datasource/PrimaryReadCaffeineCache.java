@@ -0,0 +1,19 @@
+package com.artfriendly.artfriendly.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+// @Cacheable(sync = true) 의 캐시 채우기(get(key, valueLoader))를 primary 읽기로 실행하는 캐시
+public class PrimaryReadCaffeineCache extends CaffeineCache {
+
+    public PrimaryReadCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return super.get(key, () -> PrimaryReads.call(valueLoader));
+    }
+}
@@ -0,0 +1,31 @@
+package com.artfriendly.artfriendly.global.datasource;
+
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.Callable;
+
+import static lombok.AccessLevel.PRIVATE;
+
+// 공유 캐시를 채우는 읽기는 readOnly 트랜잭션이어도 primary 에서 읽게 한다.
+// 방금 커밋된 쓰기로 캐시가 비워진 직후 지연된 replica 에서 다시 채우면, 이전 값이 TTL 동안 모든 회원에게 나가기 때문이다.
+// 커넥션을 얻는 시점에 라우팅하므로, 이미 커넥션을 얻은 트랜잭션 안에서 호출하면 적용되지 않는다.
+@NoArgsConstructor(access = PRIVATE)
+public class PrimaryReads {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    public static <T> T call(Callable<T> callable) throws Exception {
+        if (isActive())
+            return callable.call();
+
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return callable.call();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.artfriendly.artfriendly.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+
+// 쓰기 트랜잭션을 커밋한 회원을 일정 시간 기록해, 그동안의 읽기는 복제 지연과 무관하게 primary 에서 읽도록 한다.
+// 한계
+// - 인스턴스 메모리에만 기록하므로, 여러 인스턴스로 띄우면 쓰기를 받은 인스턴스에서만 보장된다.
+//   다른 인스턴스로 간 읽기는 replica 에서 읽으므로, 보장이 필요하면 로드 밸런서에서 회원별 고정(sticky) 라우팅을 한다.
+// - SecurityContext 의 회원 id 로 구분하므로, 인증 없는 요청과 스케줄러/비동기 작업의 읽기는 보장하지 않는다.
+// - 기간(datasource.routing.read-your-writes-window)보다 복제 지연이 길면 이후 읽기는 이전 값을 볼 수 있다.
+// 여러 회원이 함께 보는 캐시는 이 기록과 관계없이 PrimaryReads 로 primary 에서 채운다.
+public class RecentWriteTracker implements MeterBinder {
+    private final Cache<Long, Boolean> recentWriters;
+
+    public RecentWriteTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100000)
+                .recordStats()
+                .build();
+    }
+
+    public void markWrite(long memberId) {
+        recentWriters.put(memberId, Boolean.TRUE);
+    }
+
+    public boolean hasRecentWrite(long memberId) {
+        return recentWriters.getIfPresent(memberId) != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, recentWriters, "recentWriteTracker");
+    }
+}
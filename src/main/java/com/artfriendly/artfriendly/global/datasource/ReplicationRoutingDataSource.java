@@ -0,0 +1,50 @@
+package com.artfriendly.artfriendly.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// readOnly 트랜잭션은 replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖 접근)는 primary 로 보낸다.
+// readOnly 여도 공유 캐시를 채우는 읽기(PrimaryReads)와 최근에 쓴 회원의 읽기(RecentWriteTracker)는 primary 로 보낸다.
+// 커넥션을 실제로 얻는 시점에 결정해야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+@RequiredArgsConstructor
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    private final RecentWriteTracker recentWriteTracker;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long memberId = currentMemberId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (memberId != null && TransactionSynchronizationManager.isSynchronizationActive())
+                markWriteAfterCommit(memberId);
+            return DataSourceRoute.PRIMARY;
+        }
+
+        if (PrimaryReads.isActive())
+            return DataSourceRoute.PRIMARY;
+        // 방금 쓴 회원은 자기 변경 사항을 바로 볼 수 있도록 primary 에서 읽는다.
+        if (memberId != null && recentWriteTracker.hasRecentWrite(memberId))
+            return DataSourceRoute.PRIMARY;
+        return DataSourceRoute.REPLICA;
+    }
+
+    private void markWriteAfterCommit(long memberId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriteTracker.markWrite(memberId);
+            }
+        });
+    }
+
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long memberId)
+            return memberId;
+        return null;
+    }
+}
@@ -42,6 +42,7 @@ public enum ErrorCode {
     FILE_CANNOT_BE_SENT(500, "읽어들인 파일을 전송할 수 없습니다"),
     MULTIPART_FILE_CANNOT_BE_READ(500, "파일을 읽을 수 없습니다."),
     FILE_CANNOT_BE_DELETED(500, "파일을 삭제할 수 없습니다."),
+    INVALID_IMAGE_FILE(400, "이미지 파일을 읽을 수 없습니다."),
 
     // INTERNAL SERVER ERROR
     INTERNAL_SERVER_ERROR(500, "서버 내부 오류가 발생하였습니다."),
@@ -74,12 +75,15 @@ public enum ErrorCode {
 
     // Exhibition 에러
     EXHIBITION_NOT_FOUND(404, "해당 전시 정보를 찾을 수 없습니다."),
-    EXIST_EXHIBITIONLIKE(400, "이미 좋아요가 추가되어 있습니다."),
-    NOT_EXIST_EXHIBITIONLIKE(400, "해당 좋아요 정보가 없습니다."),
     HOPEINDEX_NOT_FOUND(404, "해당 희망 Index가 없습니다"),
-    EXIST_EXHIBITIONHOPE(400, "이미 전시 희망 사항이 추가되어 있습니다."),
     NOT_EXIST_EXHIBITIONHOPE(400, "해당 희망 사항 정보가 없습니다"),
-    SAME_EXHIBITIONHOPE(400, "이미 동일한 희망 사항이 적용되어있습니다."),
+
+    // Festival 에러
+    FESTIVAL_NOT_FOUND(404, "해당 축제 정보를 찾을 수 없습니다."),
+
+    // 행사 카탈로그 에러
+    EVENT_TYPE_NOT_FOUND(404, "해당 행사 타입을 찾을 수 없습니다."),
+    INVALID_CATALOG_PERIOD(400, "조회 종료일이 시작일보다 빠릅니다."),
 
     // Mbti 에러
     MBTI_NOT_FOUND(404, "해당 MBTI 정보를 찾을 수 없습니다."),
@@ -90,6 +94,14 @@ public enum ErrorCode {
     // 정렬 에러
     SORT_TYPE_NOT_FOUND(404, "해당 정렬 타입을 찾을 수 없습니다."),
 
+    // 검색 에러
+    SEARCH_KEYWORD_EMPTY(400, "검색어를 입력해주세요."),
+
+    // 사용자 로그
+    LOCATION_LOG_QUEUE_FULL(503, "위치 정보 로그 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    ACTIVITY_UNIT_NOT_FOUND(404, "해당 집계 단위를 찾을 수 없습니다."),
+    INVALID_ACTIVITY_PERIOD(400, "조회 기간이 올바르지 않습니다. (최대 1년)"),
+
     // 회원 탈퇴
     WITHDRAWALREASON_NOT_FOUND(404, "해당 탈퇴 이유를 찾을 수 없습니다."),
 
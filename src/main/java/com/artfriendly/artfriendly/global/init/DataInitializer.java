@@ -1,5 +1,8 @@
 package com.artfriendly.artfriendly.global.init;
 
+import com.artfriendly.artfriendly.domain.catalog.service.EventCatalogService;
+import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionRecommendationService;
+import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionSearchService;
 import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionService;
 import com.artfriendly.artfriendly.domain.mbti.repository.MbtiRepository;
 import com.artfriendly.artfriendly.domain.mbti.service.MbtiService;
@@ -21,6 +24,9 @@ public class DataInitializer implements CommandLineRunner {
     private final MemberService memberService;
     private final MbtiService mbtiService;
     private final ExhibitionService exhibitionService;
+    private final ExhibitionSearchService exhibitionSearchService;
+    private final ExhibitionRecommendationService exhibitionRecommendationService;
+    private final EventCatalogService eventCatalogService;
     private final TermService termService;
     private final UserLogService userLogService;
 
@@ -36,6 +42,11 @@ public class DataInitializer implements CommandLineRunner {
             termService.initTerms();
         }
         exhibitionService.clearPopularExhibitionCache();
+        exhibitionService.refreshEndingExhibitionIndex();
+        exhibitionSearchService.rebuildSearchIndex();
+        exhibitionRecommendationService.refreshRecommendations();
+        exhibitionRecommendationService.loadSimilarExhibitions();
+        eventCatalogService.refreshEventCatalog();
         userLogService.resetDailyUserCountCache();
     }
 }
@@ -0,0 +1,42 @@
+package com.artfriendly.artfriendly.global.init;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 좋아요/희망 사항/조회 기록의 쓰기는 INSERT IGNORE 와 유니크 키로 중복을 막는다.
+// 중복 행 때문에 ddl-auto 가 유니크 키를 만들지 못하면 중복이 조용히 계속 쌓이므로, 키가 없으면 기동을 실패시킨다.
+// 정리 스크립트 : src/main/resources/db/schema-migration.sql
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class UniqueConstraintVerifier implements CommandLineRunner {
+    private static final List<String> REQUIRED_UNIQUE_KEYS = List.of(
+            "uk_exhibition_like_member_exhibition",
+            "uk_exhibition_hope_member_exhibition",
+            "uk_exhibition_view_member_exhibition");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        Set<String> uniqueKeys = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        uniqueKeys.addAll(jdbcTemplate.queryForList(
+                "SELECT DISTINCT index_name FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND non_unique = 0",
+                String.class));
+
+        List<String> missingKeys = REQUIRED_UNIQUE_KEYS.stream()
+                .filter(uniqueKey -> !uniqueKeys.contains(uniqueKey))
+                .toList();
+        if (!missingKeys.isEmpty())
+            throw new IllegalStateException("유니크 키가 없습니다 " + missingKeys + ". 중복 행을 정리하는 db/schema-migration.sql 을 먼저 실행해야 합니다.");
+    }
+}
@@ -0,0 +1,25 @@
+package com.artfriendly.artfriendly.global.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+// http.server.requests 에 처리한 컨트롤러 메서드를 handler 태그(ExhibitionController.getExhibitionDetails)로 추가한다.
+// 같은 uri 를 여러 메서드가 나눠 쓰는 경우(GET/POST /exhibitions/likes 등)에도 엔드포인트별 분포를 볼 수 있다.
+public class HandlerServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+    private static final KeyValue HANDLER_NONE = KeyValue.of("handler", "none");
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(handler(context));
+    }
+
+    private KeyValue handler(ServerRequestObservationContext context) {
+        if (context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod)
+            return KeyValue.of("handler", handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        return HANDLER_NONE;
+    }
+}
@@ -0,0 +1,26 @@
+package com.artfriendly.artfriendly.global.metrics;
+
+import com.artfriendly.artfriendly.global.datasource.PrimaryReadCaffeineCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+// 캐시 이름을 미리 정하지 않는 CaffeineCacheManager 는 기동 시점에 캐시가 없어 Spring Boot 가 메트릭을 붙이지 못한다.
+// 캐시가 처음 만들어질 때 cache, cache.manager 태그로 직접 등록한다. (Caffeine 빌더에 recordStats() 필요)
+// 캐시 채우기는 replica 지연과 무관하게 primary 에서 읽도록 PrimaryReadCaffeineCache 로 감싼다.
+public class MeteredCaffeineCacheManager extends CaffeineCacheManager {
+    private final String cacheManagerName;
+    private final MeterRegistry meterRegistry;
+
+    public MeteredCaffeineCacheManager(String cacheManagerName, MeterRegistry meterRegistry) {
+        this.cacheManagerName = cacheManagerName;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name, "cache.manager", cacheManagerName);
+        return new PrimaryReadCaffeineCache(name, cache, isAllowNullValues());
+    }
+}
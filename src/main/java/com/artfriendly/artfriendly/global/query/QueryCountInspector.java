@@ -0,0 +1,13 @@
+package com.artfriendly.artfriendly.global.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 실행하는 모든 SQL 을 현재 스레드의 QueryStatistics 에 기록한다. SQL 은 바꾸지 않는다.
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStatistics.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,84 @@
+package com.artfriendly.artfriendly.global.query;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+// 요청마다 실행된 SQL 수를 세어 http.server.requests.queries 분포로 남기고,
+// 상한을 넘거나 같은 형태의 SQL 이 반복된(N+1 의심) 요청은 경고 로그와 카운터로 남긴다.
+// MDC 의 endpoint 값은 Hibernate 느린 쿼리 로그(org.hibernate.SQL_SLOW)에도 함께 찍힌다.
+@Slf4j
+public class QueryInspectionFilter extends OncePerRequestFilter {
+    public static final String ENDPOINT_MDC_KEY = "endpoint";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatementsPerRequest;
+    private final int repeatedStatementThreshold;
+
+    public QueryInspectionFilter(MeterRegistry meterRegistry, int maxStatementsPerRequest, int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        MDC.put(ENDPOINT_MDC_KEY, endpoint);
+        try (QueryStatistics statistics = QueryStatistics.begin(endpoint)) {
+            filterChain.doFilter(request, response);
+            report(request, statistics);
+        } finally {
+            MDC.remove(ENDPOINT_MDC_KEY);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStatistics statistics) {
+        if (statistics.getStatementCount() == 0)
+            return;
+
+        String uri = uriPattern(request);
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청 하나에서 실행된 SQL 수")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getStatementCount());
+
+        if (statistics.getStatementCount() > maxStatementsPerRequest) {
+            Counter.builder("http.server.requests.queries.exceeded")
+                    .description("SQL 수 상한을 넘은 요청 수")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("요청 SQL 수 초과 : {} -> {}회 (상한 {}회)", statistics.getName(), statistics.getStatementCount(), maxStatementsPerRequest);
+        }
+
+        List<QueryStatistics.RepeatedStatement> repeatedStatementList = statistics.getRepeatedStatements(repeatedStatementThreshold);
+        if (!repeatedStatementList.isEmpty()) {
+            Counter.builder("http.server.requests.queries.repeated")
+                    .description("같은 형태의 SQL 이 반복 실행된(N+1 의심) 요청 수")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            repeatedStatementList.forEach(repeatedStatement ->
+                    log.warn("N+1 의심 : {} -> {}회 반복 : {}", statistics.getName(), repeatedStatement.count(), repeatedStatement.shape()));
+        }
+    }
+
+    // 태그 수가 늘어나지 않도록 실제 경로 대신 매핑된 패턴을 쓴다.
+    private String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.artfriendly.artfriendly.global.query;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 현재 스레드에서 실행된 SQL 수와 형태별 실행 횟수
+// 요청 필터가 요청마다 열고, 테스트에서도 직접 열어 특정 호출의 쿼리 수를 검증할 수 있다.
+//
+//   try (QueryStatistics statistics = QueryStatistics.begin("전시 상세 조회")) {
+//       mockMvc.perform(get("/exhibitions").param("exhibitionId", "1"));
+//       statistics.assertStatementCountAtMost(3);
+//   }
+//
+// 중첩해서 열면 안쪽에서 실행된 SQL 은 바깥 통계에도 함께 센다.
+public class QueryStatistics implements AutoCloseable {
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+    private static final Pattern IN_LIST = Pattern.compile("in\\s*\\((\\s*\\?\\s*,)*\\s*\\?\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'[^']*'");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String name;
+    private final QueryStatistics parent;
+    private final Map<String, Integer> statementCountByShape = new HashMap<>();
+    private int statementCount;
+
+    private QueryStatistics(String name, QueryStatistics parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+
+    public static QueryStatistics begin(String name) {
+        QueryStatistics statistics = new QueryStatistics(name, CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void record(String sql) {
+        String shape = null;
+        for (QueryStatistics statistics = CURRENT.get(); statistics != null; statistics = statistics.parent) {
+            if (shape == null)
+                shape = shapeOf(sql);
+            statistics.statementCount++;
+            statistics.statementCountByShape.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    // 바인딩 값과 IN 목록 길이, 공백 차이를 지워 같은 형태의 SQL 을 하나로 묶는다.
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    // 같은 형태로 threshold 번 이상 반복된 SQL (N+1 의심), 많이 반복된 순
+    public List<RepeatedStatement> getRepeatedStatements(int threshold) {
+        return statementCountByShape.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .map(entry -> new RepeatedStatement(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(RepeatedStatement::count).reversed())
+                .toList();
+    }
+
+    public void assertStatementCountAtMost(int maxStatementCount) {
+        if (statementCount > maxStatementCount)
+            throw new AssertionError(name + " : SQL " + statementCount + "회 실행 (최대 " + maxStatementCount + "회)\n" + statementCountByShape);
+    }
+
+    public void assertNoRepeatedStatements(int threshold) {
+        List<RepeatedStatement> repeatedStatementList = getRepeatedStatements(threshold);
+        if (!repeatedStatementList.isEmpty())
+            throw new AssertionError(name + " : 같은 형태의 SQL 반복 실행 (N+1 의심)\n" + repeatedStatementList);
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() != this)
+            return;
+        if (parent == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(parent);
+    }
+
+    public record RepeatedStatement(String shape, int count) {
+    }
+}
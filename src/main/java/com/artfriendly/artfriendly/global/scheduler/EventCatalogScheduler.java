@@ -0,0 +1,17 @@
+package com.artfriendly.artfriendly.global.scheduler;
+
+import com.artfriendly.artfriendly.domain.catalog.service.EventCatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EventCatalogScheduler {
+    private final EventCatalogService eventCatalogService;
+
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    public void refreshEventCatalog() {
+        eventCatalogService.refreshEventCatalog();
+    }
+}
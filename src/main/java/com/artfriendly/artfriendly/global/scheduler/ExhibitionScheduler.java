@@ -1,10 +1,13 @@
 package com.artfriendly.artfriendly.global.scheduler;
 
 import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionService;
+import com.artfriendly.artfriendly.domain.exhibition.trending.TrendingScore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 public class ExhibitionScheduler {
@@ -13,5 +16,18 @@ public class ExhibitionScheduler {
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
     public void integrationExhibition() {
         exhibitionService.updateTop10PopularExhibitionRankRspDto();
+        exhibitionService.refreshEndingExhibitionIndex();
+    }
+
+    // 시간 감쇠 점수는 계속 변하므로 매시 정각에 순위 갱신
+    @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul")
+    public void updateTrendingExhibitionRank() {
+        exhibitionService.updateTop10TrendingExhibitionRankRspDto();
+    }
+
+    // 인기 점수 EPOCH 를 옮겨야 할 때가 가까워지면 매일 오류 로그를 남긴다.
+    @Scheduled(cron = "0 0 9 * * *", zone = "Asia/Seoul")
+    public void checkTrendingScoreRebaseDeadline() {
+        TrendingScore.checkRebaseDeadline(LocalDateTime.now());
     }
 }
@@ -0,0 +1,18 @@
+package com.artfriendly.artfriendly.global.scheduler;
+
+import com.artfriendly.artfriendly.domain.userlog.buffer.LocationInfoLogBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LocationInfoLogScheduler {
+    private final LocationInfoLogBuffer locationInfoLogBuffer;
+
+    // 개수가 BATCH_SIZE 에 못 미쳐도 1초 이상 쌓아두지 않는다.
+    @Scheduled(fixedDelay = 1000)
+    public void flushLocationInfoLogs() {
+        locationInfoLogBuffer.flush();
+    }
+}
@@ -0,0 +1,27 @@
+package com.artfriendly.artfriendly.global.scheduler;
+
+import com.artfriendly.artfriendly.domain.member.service.MemberDeletionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberDeletionScheduler {
+    private final MemberDeletionService memberDeletionService;
+
+    // 비동기 처리가 실패했거나 실행기가 가득 차 버려진 탈퇴 정리 작업을 다시 처리
+    @Scheduled(fixedDelay = 60000)
+    public void retryMemberDeletion() {
+        for (long memberId : memberDeletionService.getDueMemberIds()) {
+            try {
+                memberDeletionService.deleteMemberData(memberId);
+            } catch (RuntimeException e) {
+                log.warn("탈퇴 회원 데이터 정리 재시도 실패 : memberId={}, {}", memberId, e.getMessage());
+                memberDeletionService.retryMemberDeletionLater(memberId);
+            }
+        }
+    }
+}
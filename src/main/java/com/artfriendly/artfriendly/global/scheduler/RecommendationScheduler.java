@@ -0,0 +1,24 @@
+package com.artfriendly.artfriendly.global.scheduler;
+
+import com.artfriendly.artfriendly.domain.exhibition.service.ExhibitionRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RecommendationScheduler {
+    private final ExhibitionRecommendationService exhibitionRecommendationService;
+
+    // 좋아요/희망 사항이 바뀌었을 때만 다시 계산
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void refreshRecommendations() {
+        exhibitionRecommendationService.refreshRecommendationsIfChanged();
+    }
+
+    // 유사 전시는 변화가 느리므로 6시간마다 전체 재계산
+    @Scheduled(cron = "0 0 */6 * * *", zone = "Asia/Seoul")
+    public void refreshSimilarExhibitions() {
+        exhibitionRecommendationService.refreshSimilarExhibitions();
+    }
+}
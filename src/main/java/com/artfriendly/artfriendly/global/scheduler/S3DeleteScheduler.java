@@ -0,0 +1,34 @@
+package com.artfriendly.artfriendly.global.scheduler;
+
+import com.artfriendly.artfriendly.domain.s3.entity.S3DeleteOutbox;
+import com.artfriendly.artfriendly.domain.s3.service.S3DeleteOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class S3DeleteScheduler {
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final S3DeleteOutboxService s3DeleteOutboxService;
+
+    // 키 가져가기, S3 삭제, 결과 기록을 각각 따로 처리해 S3 호출 동안 DB 트랜잭션을 열어두지 않는다.
+    // 가져온 개수가 배치 크기만큼이면 남은 키가 있으므로 한 번 실행에 최대 MAX_BATCHES_PER_RUN 배치까지 계속 비운다.
+    @Scheduled(fixedDelay = 10000)
+    public void deleteS3Objects() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<S3DeleteOutbox> s3DeleteOutboxList = s3DeleteOutboxService.claimDueObjects();
+            if (s3DeleteOutboxList.isEmpty())
+                return;
+
+            Set<String> failedKeys = s3DeleteOutboxService.deleteObjects(s3DeleteOutboxList);
+            s3DeleteOutboxService.completeDeletion(s3DeleteOutboxList, failedKeys);
+            if (s3DeleteOutboxList.size() < S3DeleteOutboxService.BATCH_SIZE)
+                return;
+        }
+    }
+}
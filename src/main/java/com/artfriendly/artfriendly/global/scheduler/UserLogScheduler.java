@@ -1,6 +1,7 @@
 package com.artfriendly.artfriendly.global.scheduler;
 
 import com.artfriendly.artfriendly.domain.userlog.service.UserLogService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -10,9 +11,20 @@ import org.springframework.stereotype.Component;
 public class UserLogScheduler {
     private final UserLogService userLogService;
 
-    @Scheduled(cron = "23 59 0 * * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "0 59 23 * * *", zone = "Asia/Seoul")
     public void saveUserLogs() {
         userLogService.saveDailyUserCount();
         userLogService.resetDailyUserCountCache();
     }
+
+    // 매시 1분에 지난 시간 구간의 활동 수를 DB 로 옮긴다.
+    @Scheduled(cron = "0 1 * * * *", zone = "Asia/Seoul")
+    public void compactActivityMetrics() {
+        userLogService.compactActivityMetrics(false);
+    }
+
+    @PreDestroy
+    public void compactActivityMetricsOnShutdown() {
+        userLogService.compactActivityMetrics(true);
+    }
 }
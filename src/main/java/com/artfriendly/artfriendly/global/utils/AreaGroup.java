@@ -0,0 +1,24 @@
+package com.artfriendly.artfriendly.global.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AreaGroup {
+    private static final Map<String, List<String>> AREA_MAP = Map.of(
+            "경기/인천", List.of("경기", "인천"),
+            "강원", List.of("강원"),
+            "경남/부산", List.of("경남", "부산", "울산"),
+            "경북/대구", List.of("경북", "대구"),
+            "충청/대전", List.of("충북", "세종", "충남", "대전"),
+            "전라/광주", List.of("전남", "전북", "광주")
+    );
+
+    // 화면의 지역 그룹을 DB에 저장된 지역 목록으로 변환
+    public static List<String> toAreas(String area) {
+        return AREA_MAP.getOrDefault(area, List.of(area)); // 기본값으로 area 사용
+    }
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GenerateFileName {
     public static final String FILE_EXTENSION_SEPARATOR = ".";
+    private static final String DEFAULT_FILE_NAME = "image";
 
     public static String getFileName(String originalFileName) {
         int fileExtensionIndex = originalFileName.lastIndexOf(FILE_EXTENSION_SEPARATOR);
@@ -21,4 +22,18 @@ public class GenerateFileName {
 
         return fileName + "_" + now + fileExtension;
     }
+
+    // 확장자 없이 파일 이름 + 업로드 시간 (변형 이미지 키의 기준)
+    // 클라이언트가 파일 이름을 보내지 않거나 확장자만 보내면 기본 이름을 사용한다.
+    public static String buildBaseName(String originalFileName) {
+        String fileName = originalFileName == null ? "" : originalFileName;
+        int fileExtensionIndex = fileName.lastIndexOf(FILE_EXTENSION_SEPARATOR);
+        if (fileExtensionIndex >= 0)
+            fileName = fileName.substring(0, fileExtensionIndex);
+        if (fileName.isBlank())
+            fileName = DEFAULT_FILE_NAME;
+        String now = String.valueOf(System.currentTimeMillis());
+
+        return fileName + "_" + now;
+    }
 }
@@ -0,0 +1,33 @@
+-- 기존 좋아요/희망 사항/조회 기록으로 exhibition.trending_score 를 채운다 (user-035)
+-- db/schema-migration.sql 로 trending_score 컬럼이 생긴 뒤(README 배포 순서 2), 요청을 받기 전에 한 번 실행한다. 다시 실행해도 같은 값으로 덮어쓴다.
+-- 증분 식은 TrendingScore.of 와 같다: weight * 2^((t - EPOCH) / 반감기), EPOCH 2024-01-01 00:00:00 (Asia/Seoul), 반감기 259200초
+-- 가중치는 TrendingScore.LIKE_WEIGHT / VIEW_WEIGHT, ExhibitionHope.Hope 의 hopeRating 과 같아야 한다.
+
+SET time_zone = '+09:00';
+SET @now = NOW();
+
+-- 희망 사항은 시간 컬럼이 없던 때의 행이 있으므로 실행 시점으로 채워, 변경/삭제할 때 여기서 더한 값을 그대로 뺄 수 있게 한다.
+UPDATE exhibition_hope
+SET create_time = IFNULL(create_time, @now),
+    last_modified_time = IFNULL(last_modified_time, @now)
+WHERE create_time IS NULL OR last_modified_time IS NULL;
+
+-- 좋아요는 삭제할 때 create_time 기준으로 빼므로 같은 시간으로 더한다. (create_time 이 없으면 빼지도 않는다.)
+-- 조회 기록은 시간이 없고 빼는 경우도 없으므로 실행 시점 기준으로 더한다.
+UPDATE exhibition e
+LEFT JOIN (SELECT exhibition_id,
+                  SUM(0.5 * POW(2, TIMESTAMPDIFF(SECOND, '2024-01-01 00:00:00', create_time) / 259200)) AS score
+           FROM exhibition_like
+           WHERE create_time IS NOT NULL
+           GROUP BY exhibition_id) l ON l.exhibition_id = e.id
+LEFT JOIN (SELECT exhibition_id,
+                  SUM(CASE hope WHEN 'WANT_TO_SEE' THEN 1.5 WHEN 'GOOD' THEN 1 WHEN 'INTERESTING' THEN 0.5
+                                WHEN 'SO_SO' THEN -0.5 WHEN 'NOT_GOOD' THEN -1 ELSE 0 END
+                      * POW(2, TIMESTAMPDIFF(SECOND, '2024-01-01 00:00:00', last_modified_time) / 259200)) AS score
+           FROM exhibition_hope
+           GROUP BY exhibition_id) h ON h.exhibition_id = e.id
+LEFT JOIN (SELECT exhibition_id,
+                  COUNT(*) * 0.1 * POW(2, TIMESTAMPDIFF(SECOND, '2024-01-01 00:00:00', @now) / 259200) AS score
+           FROM exhibition_view
+           GROUP BY exhibition_id) v ON v.exhibition_id = e.id
+SET e.trending_score = IFNULL(l.score, 0) + IFNULL(h.score, 0) + IFNULL(v.score, 0);
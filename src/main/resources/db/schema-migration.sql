@@ -0,0 +1,102 @@
+-- 운영 DB(prod, ddl-auto=validate) 스키마 변경 (user-026 ~ user-050)
+-- 엔티티에 추가된 테이블/컬럼/인덱스/유니크 키 전부, 배포 전에 한 번 실행한다. (README 배포 절차 1)
+-- 컬럼 타입은 Hibernate(MariaDB 방언)가 ddl-auto=update 로 만드는 것과 같게 맞춘다.
+
+-- 1. 좋아요/희망 사항/조회 기록 중복 정리 (유니크 키를 만들기 전에)
+-- 좋아요와 조회 기록은 가장 먼저 생긴 행, 희망 사항은 마지막으로 남긴 평가(가장 최근 행)를 남긴다.
+DELETE el FROM exhibition_like el
+JOIN exhibition_like kept
+  ON kept.member_id = el.member_id AND kept.exhibition_id = el.exhibition_id AND kept.id < el.id;
+
+DELETE eh FROM exhibition_hope eh
+JOIN exhibition_hope kept
+  ON kept.member_id = eh.member_id AND kept.exhibition_id = eh.exhibition_id AND kept.id > eh.id;
+
+DELETE ev FROM exhibition_view ev
+JOIN exhibition_view kept
+  ON kept.member_id = ev.member_id AND kept.exhibition_id = ev.exhibition_id AND kept.id < ev.id;
+
+ALTER TABLE exhibition_like ADD CONSTRAINT uk_exhibition_like_member_exhibition UNIQUE (member_id, exhibition_id);
+ALTER TABLE exhibition_hope ADD CONSTRAINT uk_exhibition_hope_member_exhibition UNIQUE (member_id, exhibition_id);
+ALTER TABLE exhibition_view ADD CONSTRAINT uk_exhibition_view_member_exhibition UNIQUE (member_id, exhibition_id);
+
+-- 2. 기존 테이블에 추가된 컬럼과 인덱스
+-- Exhibition.trendingScore (값은 db/exhibition-trending-score-backfill.sql 로 채운다)
+ALTER TABLE exhibition ADD COLUMN trending_score double default 0 not null;
+CREATE INDEX idx_exhibition_trending_score ON exhibition (trending_score);
+
+-- ExhibitionHope 가 BaseTimeEntity 를 상속 (기존 행은 NULL, backfill 스크립트가 채운다)
+ALTER TABLE exhibition_hope
+    ADD COLUMN create_time datetime(6),
+    ADD COLUMN last_modified_time datetime(6);
+
+-- MemberImage.thumbnailUrl (중간 크기 이미지는 기존 image_url 에 저장한다)
+ALTER TABLE member_image ADD COLUMN thumbnail_url varchar(255);
+
+CREATE INDEX idx_festival_temperature_id ON festival (temperature, id);
+CREATE INDEX idx_festival_info_progress_status_area ON festival_info (progress_status, area);
+CREATE INDEX idx_festival_info_progress_status_end_date ON festival_info (progress_status, end_date);
+
+-- 3. 새 테이블
+CREATE TABLE s3_delete_outbox (
+    id bigint not null auto_increment,
+    create_time datetime(6),
+    last_modified_time datetime(6),
+    object_key varchar(1024) not null,
+    attempt_count integer not null,
+    next_attempt_time datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+CREATE INDEX idx_s3_delete_outbox_next_attempt_time ON s3_delete_outbox (next_attempt_time);
+
+CREATE TABLE member_deletion_job (
+    id bigint not null auto_increment,
+    create_time datetime(6),
+    last_modified_time datetime(6),
+    member_id bigint not null,
+    attempt_count integer not null,
+    next_attempt_time datetime(6) not null,
+    primary key (id),
+    constraint uk_member_deletion_job_member_id unique (member_id)
+) engine=InnoDB;
+CREATE INDEX idx_member_deletion_job_next_attempt_time ON member_deletion_job (next_attempt_time);
+
+CREATE TABLE activity_log (
+    id bigint not null auto_increment,
+    activity_type enum ('LOGIN','EXHIBITION_VIEW','EXHIBITION_LIKE','EXHIBITION_HOPE','DAMBYEOLAG_WRITE','STICKER') not null,
+    bucket_time datetime(6) not null,
+    activity_count bigint not null,
+    primary key (id),
+    constraint uk_activity_log_type_bucket unique (activity_type, bucket_time)
+) engine=InnoDB;
+CREATE INDEX idx_activity_log_bucket_time ON activity_log (bucket_time);
+
+CREATE TABLE exhibition_similarity (
+    id bigint not null auto_increment,
+    exhibition_id bigint not null,
+    similar_exhibition_id bigint not null,
+    score float(53) not null,
+    primary key (id)
+) engine=InnoDB;
+CREATE INDEX idx_exhibition_similarity_exhibition_id ON exhibition_similarity (exhibition_id);
+
+CREATE TABLE event_catalog (
+    id bigint not null auto_increment,
+    event_type enum ('EXHIBITION','FESTIVAL') not null,
+    event_id bigint not null,
+    title varchar(255),
+    place varchar(255),
+    area varchar(255),
+    image_url varchar(1000),
+    start_date date,
+    end_date date,
+    gps_x float(53) not null,
+    gps_y float(53) not null,
+    progress_status varchar(255),
+    temperature float(53),
+    last_synced_time datetime(6),
+    primary key (id),
+    constraint uk_event_catalog_event unique (event_type, event_id)
+) engine=InnoDB;
+CREATE INDEX idx_event_catalog_area_end_date ON event_catalog (area, end_date, start_date);
+CREATE INDEX idx_event_catalog_temperature ON event_catalog (temperature);
@@ -0,0 +1,75 @@
+package com.artfriendly.artfriendly.domain.exhibition.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikedExhibitionCacheTest {
+    private static final long MEMBER_ID = 1L;
+
+    private final LikedExhibitionCache likedExhibitionCache = new LikedExhibitionCache();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 불러온_목록을_캐시해_다시_불러오지_않는다() {
+        LikedExhibitionCache.LikedExhibitions first = likedExhibitionCache.getLikedExhibitions(MEMBER_ID, likedExhibitionCache.version(MEMBER_ID), loader(10L));
+        LikedExhibitionCache.LikedExhibitions second = likedExhibitionCache.getLikedExhibitions(MEMBER_ID, likedExhibitionCache.version(MEMBER_ID), loader(10L));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void 무효화_이전에_시작한_조회의_목록은_캐시에_넣지_않는다() {
+        long version = likedExhibitionCache.version(MEMBER_ID);
+        // 조회가 첫 쿼리를 실행한 뒤에 다른 요청의 좋아요가 커밋되어 무효화된다.
+        likedExhibitionCache.evictAfterCommit(MEMBER_ID);
+
+        LikedExhibitionCache.LikedExhibitions stale = likedExhibitionCache.getLikedExhibitions(MEMBER_ID, version, loader(10L));
+        LikedExhibitionCache.LikedExhibitions fresh = likedExhibitionCache.getLikedExhibitions(MEMBER_ID, likedExhibitionCache.version(MEMBER_ID), loader(20L, 10L));
+
+        assertThat(stale.exhibitionIds()).containsExactly(10L);
+        assertThat(fresh.exhibitionIds()).containsExactly(20L, 10L);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void 좋아요_삭제는_커밋된_뒤에_캐시된_목록에서_뺀다() {
+        likedExhibitionCache.getLikedExhibitions(MEMBER_ID, likedExhibitionCache.version(MEMBER_ID), loader(30L, 20L, 10L));
+        long version = likedExhibitionCache.version(MEMBER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        likedExhibitionCache.removeLikeAfterCommit(MEMBER_ID, 20L);
+        assertThat(likedExhibitionCache.getLikedExhibitions(MEMBER_ID, version, loader()).exhibitionIds()).containsExactly(30L, 20L, 10L);
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        assertThat(likedExhibitionCache.version(MEMBER_ID)).isGreaterThan(version);
+        assertThat(likedExhibitionCache.getLikedExhibitions(MEMBER_ID, version, loader()).exhibitionIds()).containsExactly(30L, 10L);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    // 좋아요 id 는 최근 순(내림차순)으로 전시 id 와 같게 둔다.
+    private LongFunction<List<LikedExhibitionRow>> loader(Long... exhibitionIds) {
+        return memberId -> {
+            loadCount.incrementAndGet();
+            return Arrays.stream(exhibitionIds)
+                    .map(exhibitionId -> new LikedExhibitionRow(exhibitionId, exhibitionId))
+                    .toList();
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.artfriendly.artfriendly.domain.exhibition.ending;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndingExhibitionIndexTest {
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    private EndingExhibitionIndex endingExhibitionIndex;
+
+    @BeforeEach
+    void setUp() {
+        endingExhibitionIndex = new EndingExhibitionIndex();
+        endingExhibitionIndex.rebuild(List.of(
+                exhibition(1L, TODAY.minusDays(1), 90.0),
+                exhibition(2L, TODAY, 10.0),
+                exhibition(3L, TODAY, 30.0),
+                exhibition(4L, TODAY.plusDays(1), 50.0),
+                exhibition(5L, null, 100.0)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 지난_전시는_건너뛰고_종료일_온도_순으로_반환한다() {
+        assertThat(ids(endingExhibitionIndex.getEndingExhibitions(TODAY, 3))).containsExactly(3L, 2L, 4L);
+    }
+
+    @Test
+    void 온도가_바뀐_전시는_같은_종료일_안에서_자리를_옮긴다() {
+        endingExhibitionIndex.updateTemperature(2L, 40.0);
+
+        List<ExhibitionRspDto> exhibitions = endingExhibitionIndex.getEndingExhibitions(TODAY, 3);
+
+        assertThat(ids(exhibitions)).containsExactly(2L, 3L, 4L);
+        assertThat(exhibitions.get(0).temperature()).isEqualTo(40.0);
+    }
+
+    @Test
+    void 여러_번_바꿔도_전체를_다시_정렬한_결과와_같다() {
+        Random random = new Random(42);
+        Map<Long, ExhibitionRspDto> expected = new HashMap<>();
+        for (long id = 1; id <= 200; id++) {
+            expected.put(id, exhibition(id, TODAY.plusDays(random.nextInt(10)), (double) random.nextInt(20)));
+        }
+        endingExhibitionIndex.rebuild(new ArrayList<>(expected.values()));
+
+        for (int i = 0; i < 1000; i++) {
+            long id = 1 + random.nextInt(200);
+            double temperature = random.nextInt(20);
+            ExhibitionRspDto before = expected.get(id);
+            expected.put(id, exhibition(id, before.endDate(), temperature));
+            endingExhibitionIndex.updateTemperature(id, temperature);
+        }
+
+        List<ExhibitionRspDto> sorted = expected.values().stream()
+                .sorted(Comparator.comparing(ExhibitionRspDto::endDate)
+                        .thenComparing(ExhibitionRspDto::temperature, Comparator.reverseOrder())
+                        .thenComparingLong(ExhibitionRspDto::id))
+                .toList();
+        assertThat(endingExhibitionIndex.getEndingExhibitions(TODAY, 200)).isEqualTo(sorted);
+    }
+
+    @Test
+    void 트랜잭션_안의_온도_변경은_커밋된_뒤에_반영한다() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        endingExhibitionIndex.updateTemperatureAfterCommit(2L, 40.0);
+        assertThat(ids(endingExhibitionIndex.getEndingExhibitions(TODAY, 1))).containsExactly(3L);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+
+        assertThat(ids(endingExhibitionIndex.getEndingExhibitions(TODAY, 1))).containsExactly(2L);
+    }
+
+    @Test
+    void 롤백된_온도_변경은_반영하지_않는다() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        endingExhibitionIndex.updateTemperatureAfterCommit(2L, 40.0);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(ids(endingExhibitionIndex.getEndingExhibitions(TODAY, 1))).containsExactly(3L);
+    }
+
+    private static List<Long> ids(List<ExhibitionRspDto> exhibitions) {
+        return exhibitions.stream().map(ExhibitionRspDto::id).toList();
+    }
+
+    private static ExhibitionRspDto exhibition(long id, LocalDate endDate, Double temperature) {
+        return new ExhibitionRspDto(id, "전시 " + id, null, temperature, TODAY.minusDays(30), endDate, "서울", false);
+    }
+}
@@ -0,0 +1,102 @@
+package com.artfriendly.artfriendly.domain.exhibition.repository;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionRspDto;
+import com.artfriendly.artfriendly.domain.exhibition.entity.Exhibition;
+import com.artfriendly.artfriendly.domain.exhibition.entity.ExhibitionInfo;
+import com.artfriendly.artfriendly.domain.exhibition.mapper.ExhibitionMapper;
+import com.artfriendly.artfriendly.global.query.QueryStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// QueryCountInspector 를 Hibernate 에 등록해, 전시 목록 조회 경로의 SQL 실행 수를 검증한다.
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.artfriendly.artfriendly.global.query.QueryCountInspector"
+})
+class ExhibitionRepositoryQueryCountTest {
+    private static final int EXHIBITION_COUNT = 8;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private ExhibitionRepository exhibitionRepository;
+
+    private final ExhibitionMapper exhibitionMapper = Mappers.getMapper(ExhibitionMapper.class);
+    private final List<Long> exhibitionIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= EXHIBITION_COUNT; i++) {
+            ExhibitionInfo exhibitionInfo = exhibitionInfo(i);
+            Exhibition exhibition = Exhibition.builder()
+                    .exhibitionHopeList(new ArrayList<>())
+                    .exhibitionViewList(new ArrayList<>())
+                    .exhibitionLikeList(new ArrayList<>())
+                    .exhibitionInfo(exhibitionInfo)
+                    .build();
+            exhibitionInfo.setExhibition(exhibition);
+            exhibitionIds.add(testEntityManager.persist(exhibition).getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void 전시_목록은_전시_정보와_함께_한_번의_SQL_로_조회한다() {
+        List<ExhibitionRspDto> exhibitionRspDtoList;
+        try (QueryStatistics statistics = QueryStatistics.begin("관심 전시 목록 조회")) {
+            List<Exhibition> exhibitionList = exhibitionRepository.findExhibitionWithInfoByIdIn(exhibitionIds);
+            exhibitionRspDtoList = exhibitionMapper.exhibitionsToExhibitionRspDtos(exhibitionList, Set.of());
+
+            statistics.assertStatementCountAtMost(1);
+            statistics.assertNoRepeatedStatements(2);
+        }
+
+        assertThat(exhibitionRspDtoList).hasSize(EXHIBITION_COUNT)
+                .extracting(ExhibitionRspDto::title).allMatch(title -> title.startsWith("전시 "));
+    }
+
+    @Test
+    void 전시마다_따로_조회하면_같은_형태의_SQL_반복으로_실패한다() {
+        try (QueryStatistics statistics = QueryStatistics.begin("전시 하나씩 조회")) {
+            for (Long exhibitionId : exhibitionIds) {
+                exhibitionRepository.findById(exhibitionId);
+            }
+
+            assertThat(statistics.getStatementCount()).isGreaterThanOrEqualTo(EXHIBITION_COUNT);
+            assertThatThrownBy(() -> statistics.assertNoRepeatedStatements(5))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("N+1");
+        }
+    }
+
+    private static ExhibitionInfo exhibitionInfo(int seq) {
+        return ExhibitionInfo.builder()
+                .seq(seq)
+                .title("전시 " + seq)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 12, 31))
+                .place("아트프렌들리 갤러리")
+                .realmName("미술")
+                .area("서울")
+                .imageUrl("https://example.com/" + seq + ".png")
+                .ticketingUrl("https://example.com/tickets/" + seq)
+                .phone("02-000-0000")
+                .price("무료")
+                .placeAddr("서울특별시 종로구")
+                .progressStatus("inProgress")
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.artfriendly.artfriendly.domain.exhibition.search;
+
+import com.artfriendly.artfriendly.domain.exhibition.dto.ExhibitionSuggestRspDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExhibitionSearchIndexTest {
+    private ExhibitionSearchIndex exhibitionSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        exhibitionSearchIndex = new ExhibitionSearchIndex();
+        exhibitionSearchIndex.rebuild(List.of(
+                document(1L, "들꽃전", "서울 갤러리", 10.0),
+                document(2L, "꽃의 정원", "부산 미술관", 50.0),
+                document(3L, "빛과 그림자", "대구 아트센터", 30.0),
+                document(4L, "현대 조각展", "서울 조각공원", 0.0)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 한_글자_검색어도_긴_단어_안에서_찾는다() {
+        assertThat(exhibitionSearchIndex.search("꽃")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 제목과_장소를_함께_검색한다() {
+        assertThat(exhibitionSearchIndex.search("그림자")).containsExactly(3L);
+        assertThat(exhibitionSearchIndex.search("조각공원")).containsExactly(4L);
+        assertThat(exhibitionSearchIndex.search("없는전시")).isEmpty();
+        assertThat(exhibitionSearchIndex.search("  ")).isEmpty();
+    }
+
+    @Test
+    void 같은_일치도면_온도가_높은_전시가_먼저_나온다() {
+        exhibitionSearchIndex.upsert(document(5L, "들꽃 이야기", "광주 갤러리", 500.0));
+
+        List<Long> result = exhibitionSearchIndex.search("들꽃");
+
+        assertThat(result).startsWith(5L).contains(1L);
+    }
+
+    @Test
+    void upsert_하면_이전_내용으로는_검색되지_않는다() {
+        exhibitionSearchIndex.upsert(document(3L, "바다의 기억", "대구 아트센터", 30.0));
+
+        assertThat(exhibitionSearchIndex.search("그림자")).isEmpty();
+        assertThat(exhibitionSearchIndex.search("바다")).containsExactly(3L);
+        assertThat(exhibitionSearchIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void 초성과_입력_중인_자모로_자동완성한다() {
+        List<ExhibitionSuggestRspDto> byChoseong = exhibitionSearchIndex.autocomplete("ㅂㄱ", 10);
+        List<ExhibitionSuggestRspDto> byJamo = exhibitionSearchIndex.autocomplete("빛ㄱ", 10);
+        List<ExhibitionSuggestRspDto> fromSecondWord = exhibitionSearchIndex.autocomplete("그림", 10);
+
+        assertThat(byChoseong).extracting(ExhibitionSuggestRspDto::exhibitionId).containsExactly(3L);
+        assertThat(byJamo).extracting(ExhibitionSuggestRspDto::exhibitionId).containsExactly(3L);
+        assertThat(fromSecondWord).extracting(ExhibitionSuggestRspDto::exhibitionId).containsExactly(3L);
+    }
+
+    @Test
+    void 자동완성은_온도_순으로_정렬한다() {
+        // "꽃의 정원"(50도), "현대 조각展"(0도) 모두 두 번째 단어가 ㅈ 으로 시작한다.
+        List<ExhibitionSuggestRspDto> suggestions = exhibitionSearchIndex.autocomplete("ㅈ", 10);
+
+        assertThat(suggestions).extracting(ExhibitionSuggestRspDto::exhibitionId).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void 트랜잭션_안의_변경은_커밋된_뒤에_반영한다() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        exhibitionSearchIndex.upsertAfterCommit(document(6L, "모래 조각", "제주 갤러리", 0.0));
+        exhibitionSearchIndex.updateTemperatureAfterCommit(1L, 1000.0);
+
+        assertThat(exhibitionSearchIndex.search("모래")).isEmpty();
+        assertThat(exhibitionSearchIndex.search("꽃")).startsWith(2L);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+
+        assertThat(exhibitionSearchIndex.search("모래")).containsExactly(6L);
+        assertThat(exhibitionSearchIndex.search("꽃")).startsWith(1L);
+    }
+
+    @Test
+    void 롤백된_변경은_반영하지_않는다() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        exhibitionSearchIndex.upsertAfterCommit(document(6L, "모래 조각", "제주 갤러리", 0.0));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(exhibitionSearchIndex.search("모래")).isEmpty();
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_반영한다() {
+        exhibitionSearchIndex.upsertAfterCommit(document(6L, "모래 조각", "제주 갤러리", 0.0));
+
+        assertThat(exhibitionSearchIndex.search("모래")).containsExactly(6L);
+    }
+
+    private static ExhibitionSearchDocument document(long exhibitionId, String title, String place, Double temperature) {
+        return new ExhibitionSearchDocument(exhibitionId, title, place, "미술", "대한민국", temperature);
+    }
+}
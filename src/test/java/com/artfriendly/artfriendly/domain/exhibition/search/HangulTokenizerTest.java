@@ -0,0 +1,40 @@
+package com.artfriendly.artfriendly.domain.exhibition.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulTokenizerTest {
+
+    @Test
+    void splitWords_소문자로_바꾸고_글자와_숫자만_남긴다() {
+        assertThat(HangulTokenizer.splitWords("Hello, 세계! 2024"))
+                .containsExactly("hello", "세계", "2024");
+        assertThat(HangulTokenizer.splitWords(null)).isEmpty();
+    }
+
+    @Test
+    void ngrams_검색어는_2gram_한글자_단어는_1gram() {
+        assertThat(HangulTokenizer.ngrams("빛과 그림자"))
+                .containsExactly("빛과", "그림", "림자");
+        assertThat(HangulTokenizer.ngrams("꽃")).containsExactly("꽃");
+    }
+
+    @Test
+    void indexGrams_본문은_1gram_과_2gram_을_모두_색인한다() {
+        assertThat(HangulTokenizer.indexGrams("들꽃전"))
+                .containsExactlyInAnyOrder("들", "들꽃", "꽃", "꽃전", "전");
+    }
+
+    @Test
+    void toJamo_겹모음과_겹받침을_풀어서_반환한다() {
+        assertThat(HangulTokenizer.toJamo("화")).isEqualTo("ㅎㅗㅏ");
+        assertThat(HangulTokenizer.toJamo("값")).isEqualTo("ㄱㅏㅂㅅ");
+        assertThat(HangulTokenizer.toJamo("ㅘ")).isEqualTo("ㅗㅏ");
+    }
+
+    @Test
+    void toChoseong_한글_음절만_초성으로_바꾼다() {
+        assertThat(HangulTokenizer.toChoseong("전시a1")).isEqualTo("ㅈㅅa1");
+    }
+}
@@ -0,0 +1,30 @@
+package com.artfriendly.artfriendly.domain.exhibition.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrendingScoreTest {
+
+    @Test
+    void 반감기마다_증분이_두_배가_된다() {
+        assertThat(TrendingScore.of(1, TrendingScore.EPOCH)).isEqualTo(1);
+        assertThat(TrendingScore.of(0.5, TrendingScore.EPOCH.plusDays(3))).isEqualTo(1);
+        assertThat(TrendingScore.of(-1, TrendingScore.EPOCH.plusDays(6))).isEqualTo(-4);
+    }
+
+    @Test
+    void 한계_약_1년_전부터_EPOCH_를_옮기라고_알린다() {
+        assertThat(TrendingScore.checkRebaseDeadline(LocalDateTime.of(2031, 1, 1, 0, 0))).isFalse();
+        assertThat(TrendingScore.checkRebaseDeadline(LocalDateTime.of(2031, 6, 1, 0, 0))).isTrue();
+    }
+
+    @Test
+    void 한계를_넘으면_쓰기를_실패시킨다() {
+        assertThatThrownBy(() -> TrendingScore.of(1, LocalDateTime.of(2032, 6, 1, 0, 0)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
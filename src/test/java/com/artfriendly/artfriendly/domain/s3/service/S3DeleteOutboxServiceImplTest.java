@@ -0,0 +1,161 @@
+package com.artfriendly.artfriendly.domain.s3.service;
+
+import com.artfriendly.artfriendly.domain.s3.entity.S3DeleteOutbox;
+import com.artfriendly.artfriendly.domain.s3.image.ImageResizer;
+import com.artfriendly.artfriendly.domain.s3.repository.S3DeleteOutboxRepository;
+import com.artfriendly.artfriendly.global.scheduler.S3DeleteScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 메모리에 보관하는 outbox 와 실패 횟수를 정할 수 있는 S3Client 스텁으로 재시도, 백오프, 배치 제한을 확인한다.
+class S3DeleteOutboxServiceImplTest {
+    private final Map<Long, S3DeleteOutbox> outbox = new TreeMap<>();
+    private final S3DeleteOutboxRepository s3DeleteOutboxRepository = mock(S3DeleteOutboxRepository.class);
+    private final S3Client s3Client = mock(S3Client.class);
+    private S3DeleteScheduler s3DeleteScheduler;
+
+    @BeforeEach
+    void setUp() {
+        S3ServiceImpl s3Service = new S3ServiceImpl(s3Client, new ImageResizer());
+        ReflectionTestUtils.setField(s3Service, "bucket", "artfriendly-test");
+        s3DeleteScheduler = new S3DeleteScheduler(new S3DeleteOutboxServiceImpl(s3DeleteOutboxRepository, s3Service));
+
+        when(s3DeleteOutboxRepository.findDueS3DeleteOutboxForUpdate(any(LocalDateTime.class), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return outbox.values().stream()
+                    .filter(s3DeleteOutbox -> !s3DeleteOutbox.getNextAttemptTime().isAfter(now))
+                    .limit(limit)
+                    .toList();
+        });
+        when(s3DeleteOutboxRepository.updateNextAttemptTime(anyList(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            ids.forEach(id -> ReflectionTestUtils.setField(outbox.get(id), "nextAttemptTime", invocation.getArgument(1)));
+            return ids.size();
+        });
+        when(s3DeleteOutboxRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<S3DeleteOutbox> s3DeleteOutboxList = new ArrayList<>();
+            ids.forEach(id -> s3DeleteOutboxList.add(outbox.get(id)));
+            return s3DeleteOutboxList;
+        });
+        doAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            ids.forEach(outbox::remove);
+            return null;
+        }).when(s3DeleteOutboxRepository).deleteAllByIdInBatch(anyIterable());
+    }
+
+    @Test
+    void S3_삭제가_실패하면_백오프를_늘려가며_재시도하고_성공하면_비운다() {
+        enqueue(1);
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(SdkException.builder().message("503 Slow Down").build())
+                .thenThrow(SdkException.builder().message("503 Slow Down").build())
+                .thenThrow(SdkException.builder().message("503 Slow Down").build())
+                .thenReturn(DeleteObjectsResponse.builder().build());
+
+        long[] expectedBackoffSeconds = {30, 60, 120};
+        for (int attempt = 1; attempt <= expectedBackoffSeconds.length; attempt++) {
+            LocalDateTime before = LocalDateTime.now();
+            s3DeleteScheduler.deleteS3Objects();
+            LocalDateTime after = LocalDateTime.now();
+
+            S3DeleteOutbox s3DeleteOutbox = outbox.get(1L);
+            assertThat(s3DeleteOutbox.getAttemptCount()).isEqualTo(attempt);
+            assertThat(s3DeleteOutbox.getNextAttemptTime())
+                    .isBetween(before.plusSeconds(expectedBackoffSeconds[attempt - 1]), after.plusSeconds(expectedBackoffSeconds[attempt - 1]));
+
+            // 다음 시도 시각 전에는 다시 가져가지 않는다.
+            s3DeleteScheduler.deleteS3Objects();
+            verify(s3Client, times(attempt)).deleteObjects(any(DeleteObjectsRequest.class));
+
+            passBackoff();
+        }
+
+        s3DeleteScheduler.deleteS3Objects();
+
+        assertThat(outbox).isEmpty();
+        verify(s3Client, times(4)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void 재시도_횟수를_넘기면_삭제를_포기하고_비운다() {
+        enqueue(1);
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(SdkException.builder().message("403 Access Denied").build());
+
+        for (int attempt = 1; attempt < 10; attempt++) {
+            s3DeleteScheduler.deleteS3Objects();
+            assertThat(outbox.get(1L).getAttemptCount()).isEqualTo(attempt);
+            passBackoff();
+        }
+        s3DeleteScheduler.deleteS3Objects();
+
+        assertThat(outbox).isEmpty();
+        verify(s3Client, times(10)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void 일부_키만_실패하면_실패한_키만_다시_시도한다() {
+        enqueue(3);
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(DeleteObjectsResponse.builder()
+                        .errors(S3Error.builder().key("images/2.png").code("InternalError").build())
+                        .build());
+
+        s3DeleteScheduler.deleteS3Objects();
+
+        assertThat(outbox).containsOnlyKeys(2L);
+        assertThat(outbox.get(2L).getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 한_번_실행에_최대_10배치까지만_비운다() {
+        enqueue(10 * S3DeleteOutboxService.BATCH_SIZE + 1);
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+
+        s3DeleteScheduler.deleteS3Objects();
+
+        assertThat(outbox).hasSize(1);
+        verify(s3Client, times(10)).deleteObjects(any(DeleteObjectsRequest.class));
+
+        s3DeleteScheduler.deleteS3Objects();
+
+        assertThat(outbox).isEmpty();
+        verify(s3Client, times(11)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    private void enqueue(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= count; id++) {
+            outbox.put(id, S3DeleteOutbox.builder()
+                    .id(id)
+                    .objectKey("images/" + id + ".png")
+                    .nextAttemptTime(now)
+                    .build());
+        }
+    }
+
+    // 다음 시도 시각이 지난 것으로 만든다.
+    private void passBackoff() {
+        outbox.values().forEach(s3DeleteOutbox ->
+                ReflectionTestUtils.setField(s3DeleteOutbox, "nextAttemptTime", LocalDateTime.now().minusSeconds(1)));
+    }
+}
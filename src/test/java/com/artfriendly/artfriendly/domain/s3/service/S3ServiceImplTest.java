@@ -0,0 +1,149 @@
+package com.artfriendly.artfriendly.domain.s3.service;
+
+import com.artfriendly.artfriendly.domain.s3.image.ImageResizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// S3 대신 요청 본문을 8KB 씩 읽어 버리는 S3Client 스텁으로 업로드 한 건의 힙 할당량을 측정한다.
+class S3ServiceImplTest {
+    private static final long FILE_SIZE = 32L * 1024 * 1024;
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private S3ServiceImpl s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = new S3ServiceImpl(s3Client, new ImageResizer());
+        ReflectionTestUtils.setField(s3Service, "imagePath", "images");
+        ReflectionTestUtils.setField(s3Service, "bucket", "artfriendly-test");
+    }
+
+    @Test
+    void fileUpLoad_는_파일_전체를_힙에_복사하지_않고_스트리밍한다() throws Exception {
+        AtomicReference<PutObjectRequest> putObjectRequest = new AtomicReference<>();
+        AtomicLong bytesReadBeforeUpload = new AtomicLong(-1);
+        AtomicLong uploadedBytes = new AtomicLong();
+        GeneratedMultipartFile multipartFile = new GeneratedMultipartFile("profile.png", FILE_SIZE);
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            putObjectRequest.set(invocation.getArgument(0));
+            bytesReadBeforeUpload.set(multipartFile.bytesRead());
+            RequestBody requestBody = invocation.getArgument(1);
+            try (InputStream inputStream = requestBody.contentStreamProvider().newStream()) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    uploadedBytes.addAndGet(read);
+                }
+            }
+            return PutObjectResponse.builder().build();
+        });
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        String fileName = s3Service.fileUpLoad(multipartFile);
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assertThat(fileName).startsWith("images/profile_").endsWith(".png");
+        assertThat(putObjectRequest.get().contentLength()).isEqualTo(FILE_SIZE);
+        // SDK 에 넘기기 전에 미리 읽어 두지 않고, S3 로 보내는 만큼만 읽는다.
+        assertThat(bytesReadBeforeUpload.get()).isZero();
+        assertThat(uploadedBytes.get()).isEqualTo(FILE_SIZE);
+        assertThat(allocatedBytes).isLessThan(FILE_SIZE / 8);
+    }
+
+    // 내용을 읽는 만큼 생성하는 업로드 파일, getBytes() 로 전체를 읽으면 실패한다.
+    private static class GeneratedMultipartFile implements MultipartFile {
+        private final String originalFilename;
+        private final long size;
+        private final AtomicLong bytesRead = new AtomicLong();
+
+        private GeneratedMultipartFile(String originalFilename, long size) {
+            this.originalFilename = originalFilename;
+            this.size = size;
+        }
+
+        long bytesRead() {
+            return bytesRead.get();
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/png";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("업로드 파일 전체를 메모리로 읽으면 안 된다.");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long position;
+
+                @Override
+                public int read() {
+                    if (position >= size)
+                        return -1;
+                    bytesRead.incrementAndGet();
+                    return (int) (position++ & 0xFF);
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    if (position >= size)
+                        return -1;
+                    int count = (int) Math.min(length, size - position);
+                    for (int i = 0; i < count; i++) {
+                        buffer[offset + i] = (byte) (position + i);
+                    }
+                    position += count;
+                    bytesRead.addAndGet(count);
+                    return count;
+                }
+            };
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
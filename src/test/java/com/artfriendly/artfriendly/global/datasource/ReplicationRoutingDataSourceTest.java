@@ -0,0 +1,105 @@
+package com.artfriendly.artfriendly.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+    private static final long MEMBER_ID = 1L;
+
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicationRoutingDataSource(new RecentWriteTracker(Duration.ofMinutes(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void readOnly_트랜잭션은_replica_쓰기_트랜잭션은_primary_로_보낸다() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.REPLICA);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    void 쓰기를_커밋한_회원의_읽기는_primary_로_보낸다() {
+        authenticate(MEMBER_ID);
+        List<TransactionSynchronization> synchronizations = writeTransaction();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+
+        assertThat(readOnlyRoute()).isEqualTo(DataSourceRoute.PRIMARY);
+        authenticate(2L);
+        assertThat(readOnlyRoute()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    @Test
+    void 롤백된_쓰기는_기록하지_않는다() {
+        authenticate(MEMBER_ID);
+        List<TransactionSynchronization> synchronizations = writeTransaction();
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(readOnlyRoute()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    @Test
+    void 인증_없는_쓰기는_기록하지_않는다() {
+        List<TransactionSynchronization> synchronizations = writeTransaction();
+
+        assertThat(synchronizations).isEmpty();
+    }
+
+    @Test
+    void 공유_캐시를_채우는_읽기는_primary_로_보낸다() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PrimaryReadCaffeineCache cache = new PrimaryReadCaffeineCache("test", Caffeine.newBuilder().build(), true);
+
+        Object routeInLoader = cache.get("key", routingDataSource::determineCurrentLookupKey);
+        Object routeInPrimaryReads = PrimaryReads.call(routingDataSource::determineCurrentLookupKey);
+
+        assertThat(routeInLoader).isEqualTo(DataSourceRoute.PRIMARY);
+        assertThat(routeInPrimaryReads).isEqualTo(DataSourceRoute.PRIMARY);
+        assertThat(PrimaryReads.isActive()).isFalse();
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    private List<TransactionSynchronization> writeTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private Object readOnlyRoute() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        return routingDataSource.determineCurrentLookupKey();
+    }
+
+    private static void authenticate(long memberId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(memberId, null, List.of()));
+    }
+}